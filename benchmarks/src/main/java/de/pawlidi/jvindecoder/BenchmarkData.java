@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.util.Arrays;
+import java.util.List;
+
+import de.pawlidi.jvindecoder.db.ReferenceData;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+/**
+ * Reference data and VIN samples shared by the benchmarks.
+ * 
+ * @author pawlidim
+ *
+ */
+final class BenchmarkData {
+
+	static final String[] VINS = { "W0L000051T2123456", "1M8GDM9AXKP042788", "WVWZZZ1JZXW000001",
+			"JHMCM56557C404453", "VF1BB05CF26010203", "ZFA22300005556777", "SC9ABC12X1AABC456", "9BWZZZ377VT004251" };
+
+	private static final List<WMIRegion> REGIONS = Arrays.asList(new WMIRegion("Africa", "[A-H]"),
+			new WMIRegion("Asia", "[J-R]"), new WMIRegion("Europe", "[S-Z]"), new WMIRegion("North America", "[1-5]"),
+			new WMIRegion("Oceania", "[6-7]"), new WMIRegion("South America", "[890]"));
+
+	private static final List<WMICountry> COUNTRIES = Arrays.asList(
+			new WMICountry("United Kingdom", "[S]", "[A-M]"), new WMICountry("Japan", "[J]", "[A-Z0-9]"),
+			new WMICountry("France", "[V]", "[F-R]"), new WMICountry("Germany", "[W]", "[A-Z0-9]"),
+			new WMICountry("Italy", "[Z]", "[A-R]"), new WMICountry("United States", "[1]", "[A-Z0-9]"),
+			new WMICountry("Brazil", "[9]", "[A-E]"));
+
+	private static final List<WMIManufacturer> MANUFACTURERS = Arrays.asList(
+			new WMIManufacturer("Opel", null, "W0L"), new WMIManufacturer("Volkswagen", null, "WVW"),
+			new WMIManufacturer("Honda", null, "JHM"), new WMIManufacturer("Renault", null, "VF1"),
+			new WMIManufacturer("Fiat", null, "ZFA"), new WMIManufacturer("Small", null, "SC9ABC"),
+			new WMIManufacturer("Volkswagen Brazil", null, "9BW"));
+
+	/**
+	 * Invisible constructor.
+	 */
+	private BenchmarkData() {
+		super();
+	}
+
+	/**
+	 * Installs the benchmark reference data in the {@link VinDataFactory}.
+	 */
+	static void install() {
+		VinDataFactory.setReferenceData(new ReferenceData(REGIONS, COUNTRIES, MANUFACTURERS, null, null));
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+/**
+ * Benchmarks of the single threaded region, country and manufacturer decoding.
+ * 
+ * @author pawlidim
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodeBenchmark {
+
+	private int index;
+
+	@Setup
+	public void setup() {
+		BenchmarkData.install();
+	}
+
+	private String next() {
+		return BenchmarkData.VINS[index++ & 7];
+	}
+
+	@Benchmark
+	public WMIRegion decodeRegion() {
+		return VinDataFactory.decodeRegion(next());
+	}
+
+	@Benchmark
+	public WMICountry decodeCountry() {
+		return VinDataFactory.decodeCountry(next());
+	}
+
+	@Benchmark
+	public WMIManufacturer decodeManufacturer() {
+		return VinDataFactory.decodeManufacturer(next());
+	}
+
+	@Benchmark
+	public Vin decode() {
+		return VinDataFactory.decode(next());
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the multi-threaded decode throughput, once with one decode per
+ * benchmark thread and once with the fork join batch API.
+ * 
+ * @author pawlidim
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThroughputBenchmark {
+
+	private static final int BATCH_SIZE = 100000;
+
+	private List<String> batch;
+
+	@Setup
+	public void setup() {
+		BenchmarkData.install();
+		batch = new ArrayList<String>(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			batch.add(BenchmarkData.VINS[i & 7]);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int index;
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Vin decodeConcurrent(Cursor cursor) {
+		return VinDataFactory.decode(BenchmarkData.VINS[cursor.index++ & 7]);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public List<Vin> decodeAll() {
+		return VinDataFactory.decodeAll(batch);
+	}
+
+}
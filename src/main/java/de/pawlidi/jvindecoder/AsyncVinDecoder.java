@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import de.pawlidi.utils.log.ILog;
+import de.pawlidi.utils.log.Logging;
+
+/**
+ * Asynchronous facade of the {@link VinDataFactory}. The decoding runs on a
+ * dedicated executor, the caller gets a {@link CompletableFuture}. On JDK 21
+ * and later the default executor starts a virtual thread per task, on older
+ * runtimes a bounded thread pool is used.
+ * 
+ * <p>
+ * The reference data is loaded from the database on a platform thread before
+ * the first decode, the synchronized database access would pin a virtual
+ * thread. Submitting never blocks the caller. The number of pending tasks is
+ * limited, if the limit is reached or the executor rejects a task, the
+ * returned future fails with a {@link RejectedExecutionException}.
+ * </p>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class AsyncVinDecoder implements Closeable {
+
+	private static final ILog log = Logging.getLog(AsyncVinDecoder.class);
+
+	/**
+	 * Defines the default capacity of the task queue of the bounded pool and
+	 * the default maximum number of pending tasks
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+	/** Defines the number of codes decoded by one task of a batch */
+	private static final int BATCH_SIZE = 1024;
+
+	private final ExecutorService executor;
+	private final Semaphore permits;
+	private final boolean ownExecutor;
+	private volatile CompletableFuture<Void> referenceData;
+
+	/**
+	 * Default constructor to construct the decoder with a virtual thread
+	 * executor or a bounded pool with one thread per processor. At most
+	 * {@link #DEFAULT_QUEUE_CAPACITY} tasks are pending.
+	 */
+	public AsyncVinDecoder() {
+		this(createDefaultExecutor(), new Semaphore(DEFAULT_QUEUE_CAPACITY), true);
+	}
+
+	/**
+	 * Constructs the decoder with the given executor, which is not shut down by
+	 * {@link #close()}. The number of pending tasks is not limited.
+	 * 
+	 * @param executor
+	 *            the executor to decode in
+	 */
+	public AsyncVinDecoder(ExecutorService executor) {
+		this(executor, null, false);
+	}
+
+	/**
+	 * Constructs the decoder with the given executor, which is not shut down by
+	 * {@link #close()}. While the given number of tasks is pending, further
+	 * tasks are rejected without blocking the caller. A bounded executor does
+	 * not reject tasks itself if the number does not exceed its queue capacity.
+	 * 
+	 * @param executor
+	 *            the executor to decode in
+	 * @param maxPendingTasks
+	 *            the maximum number of pending tasks
+	 */
+	public AsyncVinDecoder(ExecutorService executor, int maxPendingTasks) {
+		this(executor, new Semaphore(maxPendingTasks), false);
+	}
+
+	private AsyncVinDecoder(ExecutorService executor, Semaphore permits, boolean ownExecutor) {
+		super();
+		this.executor = executor;
+		this.permits = permits;
+		this.ownExecutor = ownExecutor;
+	}
+
+	/**
+	 * Creates a bounded pool with the given number of threads and queue
+	 * capacity.
+	 * 
+	 * @param threads
+	 *            the number of threads
+	 * @param queueCapacity
+	 *            the maximum number of waiting tasks
+	 * @return new executor
+	 */
+	public static ExecutorService newBoundedExecutor(int threads, int queueCapacity) {
+		final AtomicInteger counter = new AtomicInteger();
+		final ThreadFactory threadFactory = runnable -> {
+			final Thread thread = new Thread(runnable, "jvindecoder-async-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Returns a virtual thread per task executor, if the runtime supports
+	 * virtual threads.
+	 * 
+	 * @return new executor or null before JDK 21
+	 */
+	static ExecutorService newVirtualThreadExecutor() {
+		try {
+			final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (NoSuchMethodException e) {
+			return null;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			log.error("Cannot create virtual thread executor {0}", e.getMessage());
+			return null;
+		}
+	}
+
+	private static ExecutorService createDefaultExecutor() {
+		final ExecutorService executor = newVirtualThreadExecutor();
+		if (executor != null) {
+			return executor;
+		}
+		return newBoundedExecutor(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Loads the reference data on a new platform thread, a failed load is
+	 * retried by the next task.
+	 */
+	private CompletableFuture<Void> loadReferenceData() {
+		CompletableFuture<Void> loading = referenceData;
+		if (loading == null || loading.isCompletedExceptionally()) {
+			synchronized (this) {
+				loading = referenceData;
+				if (loading == null || loading.isCompletedExceptionally()) {
+					loading = CompletableFuture.runAsync(VinDataFactory::getReferenceData, runnable -> {
+						final Thread thread = new Thread(runnable, "jvindecoder-async-load");
+						thread.setDaemon(true);
+						thread.start();
+					});
+					referenceData = loading;
+				}
+			}
+		}
+		return loading;
+	}
+
+	private <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+		if (permits != null && !permits.tryAcquire()) {
+			final CompletableFuture<T> future = new CompletableFuture<T>();
+			future.completeExceptionally(new RejectedExecutionException("Too many pending decodes"));
+			return future;
+		}
+		// a rejected task completes the future exceptionally
+		final CompletableFuture<T> future = loadReferenceData().thenApplyAsync(ignored -> supplier.get(), executor);
+		// the returned future completes after the permit has been released
+		return permits == null ? future : future.whenComplete((result, error) -> permits.release());
+	}
+
+	/**
+	 * Decodes the given code asynchronously.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return future of the decoded vin, which completes with null if the code
+	 *         is not a valid VIN
+	 * @see VinDataFactory#decode(String)
+	 */
+	public CompletableFuture<Vin> decode(String code) {
+		return submit(() -> VinDataFactory.decode(code));
+	}
+
+	/**
+	 * Decodes the requested fields of the given code asynchronously.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @param fields
+	 *            the requested fields
+	 * @return future of the decoded vin, which completes with null if the code
+	 *         is not a valid VIN
+	 * @see VinDataFactory#decode(String, Set)
+	 */
+	public CompletableFuture<Vin> decode(String code, Set<VinField> fields) {
+		return submit(() -> VinDataFactory.decode(code, fields));
+	}
+
+	/**
+	 * Decodes all given codes asynchronously. The codes are split into batches,
+	 * which are decoded as separate tasks.
+	 * 
+	 * @param codes
+	 *            the vins, may be null
+	 * @return future of the decoded vins in input order, null for every invalid
+	 *         code
+	 */
+	public CompletableFuture<List<Vin>> decodeAll(Collection<String> codes) {
+		if (codes == null || codes.isEmpty()) {
+			return CompletableFuture.completedFuture(Collections.<Vin>emptyList());
+		}
+		final String[] input = codes.toArray(new String[codes.size()]);
+		final Vin[] output = new Vin[input.length];
+		final List<CompletableFuture<Void>> batches = new ArrayList<CompletableFuture<Void>>();
+		for (int from = 0; from < input.length; from += BATCH_SIZE) {
+			final int start = from;
+			final int end = Math.min(from + BATCH_SIZE, input.length);
+			batches.add(submit(() -> {
+				for (int i = start; i < end; i++) {
+					output[i] = VinDataFactory.decode(input[i]);
+				}
+				return null;
+			}));
+		}
+		return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[batches.size()]))
+				.thenApply(ignored -> Arrays.asList(output));
+	}
+
+	/**
+	 * Shuts down the default executor, a given executor is left running.
+	 */
+	@Override
+	public void close() {
+		if (ownExecutor) {
+			executor.shutdown();
+		}
+	}
+}
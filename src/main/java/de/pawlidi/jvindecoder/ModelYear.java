@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.time.Clock;
+import java.time.Year;
+import java.time.ZonedDateTime;
+
+/**
+ * Decoder of the model year at position 10 of a VIN. The year codes repeat
+ * every 30 years, {@code A} stands for 1980 and 2010, {@code 9} for 2009 and
+ * 2039. The letters I, O, Q, U and Z and the digit 0 are not used.
+ * 
+ * <p>
+ * For North American VINs the cycle is determined by position 7: a digit
+ * means 1980 to 2009, a letter means 2010 to 2039. For other VINs the most
+ * recent year, which is not after the next calendar year, is returned. The
+ * decoding is a table lookup and does not allocate any objects, the calendar
+ * year is only computed again when it has passed.
+ * </p>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class ModelYear {
+
+	/** Defines the result if the model year cannot be decoded */
+	public static final int UNKNOWN = 0;
+	/** Defines the number of years after which the codes repeat */
+	public static final int CYCLE = 30;
+	/** Defines the first year of the first cycle */
+	public static final int FIRST_YEAR = 1980;
+
+	/** Defines the index of the model year */
+	public static final int MODEL_YEAR_INDEX = 9;
+	/** Defines the index of the character which selects the cycle */
+	public static final int CYCLE_INDEX = 6;
+
+	private static final String CODES = "ABCDEFGHJKLMNPRSTVWXY123456789";
+	private static final byte[] OFFSETS = new byte[128];
+	private static volatile LatestYear latestYear = LatestYear.of(Clock.systemDefaultZone());
+
+	static {
+		for (int i = 0; i < OFFSETS.length; i++) {
+			OFFSETS[i] = -1;
+		}
+		for (int i = 0; i < CODES.length(); i++) {
+			OFFSETS[CODES.charAt(i)] = (byte) i;
+		}
+	}
+
+	/**
+	 * Invisible constructor.
+	 */
+	private ModelYear() {
+		super();
+	}
+
+	/**
+	 * Returns the year of the given code in the first cycle.
+	 * 
+	 * <pre>
+	 * ModelYear.baseYear('A') = 1980
+	 * ModelYear.baseYear('Y') = 2000
+	 * ModelYear.baseYear('1') = 2001
+	 * ModelYear.baseYear('9') = 2009
+	 * ModelYear.baseYear('U') = ModelYear.UNKNOWN
+	 * </pre>
+	 * 
+	 * @param code
+	 *            the character at position 10
+	 * @return year in range {@code 1980..2009} or {@link #UNKNOWN}, the
+	 *         candidate years are this year plus multiples of 30
+	 */
+	public static int baseYear(final char code) {
+		final int offset = code < 128 ? OFFSETS[code] : -1;
+		return offset < 0 ? UNKNOWN : FIRST_YEAR + offset;
+	}
+
+	/**
+	 * Decodes the model year of the given vin, see {@link ModelYear}.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return the model year or {@link #UNKNOWN}
+	 */
+	public static int decode(final CharSequence code) {
+		LatestYear latest = latestYear;
+		if (System.currentTimeMillis() >= latest.until) {
+			latest = LatestYear.of(Clock.systemDefaultZone());
+			latestYear = latest;
+		}
+		return decode(code, latest.year);
+	}
+
+	/**
+	 * Decodes the model year of the given vin. For VINs outside of North America
+	 * the most recent candidate year not after the next year of the given clock
+	 * is returned.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @param clock
+	 *            the clock of the current year
+	 * @return the model year or {@link #UNKNOWN}
+	 */
+	public static int decode(final CharSequence code, final Clock clock) {
+		return decode(code, Year.now(clock).getValue() + 1);
+	}
+
+	/**
+	 * Decodes the model year of the given vin. For VINs outside of North America
+	 * the most recent candidate year not after the given year is returned.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @param latestYear
+	 *            the latest possible model year
+	 * @return the model year or {@link #UNKNOWN}
+	 */
+	public static int decode(final CharSequence code, final int latestYear) {
+		if (code == null || code.length() != VinDataFactory.VIN_LENGTH) {
+			return UNKNOWN;
+		}
+		final int year = baseYear(code.charAt(MODEL_YEAR_INDEX));
+		if (year == UNKNOWN) {
+			return UNKNOWN;
+		}
+		if (isNorthAmerican(code.charAt(0))) {
+			final char cycle = code.charAt(CYCLE_INDEX);
+			if (cycle >= '0' && cycle <= '9') {
+				return year;
+			}
+			return cycle >= 'A' && cycle <= 'Z' ? year + CYCLE : UNKNOWN;
+		}
+		if (year > latestYear) {
+			return year;
+		}
+		return year + (latestYear - year) / CYCLE * CYCLE;
+	}
+
+	private static boolean isNorthAmerican(final char c) {
+		return c >= '1' && c <= '5';
+	}
+
+	/**
+	 * Latest possible model year and the time until which it is valid.
+	 */
+	private static final class LatestYear {
+
+		private final int year;
+		private final long until;
+
+		private LatestYear(int year, long until) {
+			super();
+			this.year = year;
+			this.until = until;
+		}
+
+		static LatestYear of(Clock clock) {
+			final ZonedDateTime now = ZonedDateTime.now(clock);
+			final ZonedDateTime next = now.toLocalDate().withDayOfYear(1).plusYears(1).atStartOfDay(now.getZone());
+			return new LatestYear(now.getYear() + 1, next.toInstant().toEpochMilli());
+		}
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.io.Serializable;
+
+/**
+ * Compact value type of a VIN. The 33 characters allowed in a VIN (digits and
+ * upper case letters without I, O and Q) are encoded in 6 bits each, so that
+ * the 17 characters fit into two longs. The first 10 characters are stored in
+ * the high long, the last 7 characters in the low long.
+ * 
+ * <p>
+ * The character codes are ordered like the characters, so the natural order of
+ * packed vins is the lexicographic order of the codes. Comparison, hashing and
+ * equality work on the two longs and do not allocate any objects.
+ * </p>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class PackedVin implements Comparable<PackedVin>, Serializable {
+
+	private static final long serialVersionUID = 5467326373627426018L;
+
+	/** Defines the characters allowed in a VIN in ascending order */
+	private static final String CHARACTERS = "0123456789ABCDEFGHJKLMNPRSTUVWXYZ";
+
+	private static final int BITS = 6;
+	private static final int HIGH_LENGTH = 10;
+	private static final byte[] CODES = new byte[128];
+
+	static {
+		for (int i = 0; i < CODES.length; i++) {
+			CODES[i] = -1;
+		}
+		for (int i = 0; i < CHARACTERS.length(); i++) {
+			CODES[CHARACTERS.charAt(i)] = (byte) i;
+		}
+	}
+
+	private final long high;
+	private final long low;
+
+	/**
+	 * Constructs a packed vin from the two longs of {@link #getHigh()} and
+	 * {@link #getLow()}.
+	 * 
+	 * @param high
+	 *            the packed characters 1 to 10
+	 * @param low
+	 *            the packed characters 11 to 17
+	 * @throws IllegalArgumentException
+	 *             if a long contains other codes than the allowed characters
+	 */
+	public PackedVin(long high, long low) {
+		super();
+		if (!isPacked(high, HIGH_LENGTH) || !isPacked(low, VinDataFactory.VIN_LENGTH - HIGH_LENGTH)) {
+			throw new IllegalArgumentException("Invalid packed vin " + high + ", " + low);
+		}
+		this.high = high;
+		this.low = low;
+	}
+
+	/**
+	 * Packs the given code.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return the packed vin or null if the code does not consist of 17 allowed
+	 *         characters
+	 */
+	public static PackedVin of(CharSequence code) {
+		if (!isPackable(code)) {
+			return null;
+		}
+		return new PackedVin(high(code), low(code));
+	}
+
+	/**
+	 * Packs the code of the given vin.
+	 * 
+	 * @param vin
+	 *            the vin, may be null
+	 * @return the packed vin or null if the vin has no valid code
+	 */
+	public static PackedVin of(Vin vin) {
+		return vin == null ? null : of(vin.getCode());
+	}
+
+	/**
+	 * Checks if the given code consists of 17 characters allowed in a VIN.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return true, if the code can be packed
+	 */
+	public static boolean isPackable(CharSequence code) {
+		if (code == null || code.length() != VinDataFactory.VIN_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < VinDataFactory.VIN_LENGTH; i++) {
+			if (code(code.charAt(i)) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Packs the characters 1 to 10 of the given code without allocating a
+	 * packed vin. The code must be packable.
+	 * 
+	 * @param code
+	 *            the vin
+	 * @return the high long
+	 * @see #isPackable(CharSequence)
+	 */
+	public static long high(CharSequence code) {
+		return pack(code, 0, HIGH_LENGTH);
+	}
+
+	/**
+	 * Packs the characters 11 to 17 of the given code without allocating a
+	 * packed vin. The code must be packable.
+	 * 
+	 * @param code
+	 *            the vin
+	 * @return the low long
+	 * @see #isPackable(CharSequence)
+	 */
+	public static long low(CharSequence code) {
+		return pack(code, HIGH_LENGTH, VinDataFactory.VIN_LENGTH);
+	}
+
+	private static int code(char c) {
+		return c < 128 ? CODES[c] : -1;
+	}
+
+	private static long pack(CharSequence code, int start, int end) {
+		long value = 0;
+		for (int i = start; i < end; i++) {
+			value = (value << BITS) | code(code.charAt(i));
+		}
+		return value;
+	}
+
+	private static boolean isPacked(long value, int length) {
+		for (int i = 0; i < length; i++) {
+			if ((value & 0x3F) >= CHARACTERS.length()) {
+				return false;
+			}
+			value >>>= BITS;
+		}
+		return value == 0;
+	}
+
+	private static void unpack(long value, char[] chars, int start, int end) {
+		for (int i = end - 1; i >= start; i--) {
+			chars[i] = CHARACTERS.charAt((int) (value & 0x3F));
+			value >>>= BITS;
+		}
+	}
+
+	/**
+	 * @return the packed characters 1 to 10
+	 */
+	public long getHigh() {
+		return high;
+	}
+
+	/**
+	 * @return the packed characters 11 to 17
+	 */
+	public long getLow() {
+		return low;
+	}
+
+	/**
+	 * Decodes the packed vin.
+	 * 
+	 * @return the decoded vin
+	 * @see VinDataFactory#decode(String)
+	 */
+	public Vin toVin() {
+		return VinDataFactory.decode(toString());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return hash(high, low);
+	}
+
+	/**
+	 * Returns a well distributed hash code of a packed vin.
+	 * 
+	 * @param high
+	 *            the high long
+	 * @param low
+	 *            the low long
+	 * @return the hash code
+	 */
+	public static int hash(long high, long low) {
+		long h = high * 0x9E3779B97F4A7C15L + low;
+		h = (h ^ (h >>> 32)) * 0xC2B2AE3D27D4EB4FL;
+		return (int) (h ^ (h >>> 29));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PackedVin)) {
+			return false;
+		}
+		final PackedVin other = (PackedVin) obj;
+		return high == other.high && low == other.low;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Comparable#compareTo(java.lang.Object)
+	 */
+	@Override
+	public int compareTo(PackedVin other) {
+		final int result = Long.compare(high, other.high);
+		return result != 0 ? result : Long.compare(low, other.low);
+	}
+
+	/**
+	 * Returns the 17 character code of the packed vin.
+	 */
+	@Override
+	public String toString() {
+		final char[] chars = new char[VinDataFactory.VIN_LENGTH];
+		unpack(high, chars, 0, HIGH_LENGTH);
+		unpack(low, chars, HIGH_LENGTH, VinDataFactory.VIN_LENGTH);
+		return new String(chars);
+	}
+
+}
@@ -15,8 +15,11 @@
  */
 package de.pawlidi.jvindecoder;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import de.pawlidi.jvindecoder.db.ReferenceData;
 import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
 import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
 import de.pawlidi.jvindecoder.model.WMICountry;
@@ -99,6 +102,16 @@ import de.pawlidi.jvindecoder.model.WMIRegion;
  */
 public final class Vin implements Serializable {
 
+	private static final int COUNTRY = 1;
+	private static final int REGION = 1 << 1;
+	private static final int MANUFACTURER = 1 << 2;
+	private static final int VDS = 1 << 3;
+	private static final int VIS = 1 << 4;
+	private static final int ALL = COUNTRY | REGION | MANUFACTURER | VDS | VIS;
+
+	/** Defines the index of the plant code */
+	public static final int PLANT_INDEX = 10;
+
 	private String code;
 	private WMICountry country;
 	private WMIRegion region;
@@ -106,6 +119,11 @@ public final class Vin implements Serializable {
 	private VehicleDescriptorSection vds;
 	private VehicleIndicatorSection vis;
 
+	/** Reference data of a lazy vin, null after all sections are resolved */
+	private transient ReferenceData data;
+	/** Bitmask of the sections which are resolved or have been set */
+	private volatile int resolved = ALL;
+
 	/**
 	 * Invisible default constructor to construct new vin object.
 	 */
@@ -113,6 +131,75 @@ public final class Vin implements Serializable {
 		super();
 	}
 
+	/**
+	 * Invisible constructor to construct a lazy vin object. Every section is
+	 * decoded from the given reference data on first access.
+	 * 
+	 * @param code
+	 *            the normalized code with 17 characters
+	 * @param data
+	 *            the reference data
+	 */
+	Vin(final String code, final ReferenceData data) {
+		this(code);
+		this.data = data;
+		this.resolved = 0;
+	}
+
+	/**
+	 * Invisible constructor to construct a decoded vin object.
+	 */
+	Vin(final String code, final WMIRegion region, final WMICountry country, final WMIManufacturer manufacturer,
+			final VehicleDescriptorSection vds, final VehicleIndicatorSection vis) {
+		this(code);
+		this.region = region;
+		this.country = country;
+		this.manufacturer = manufacturer;
+		this.vds = vds;
+		this.vis = vis;
+	}
+
+	/**
+	 * Decodes the given section of a lazy vin, unless it is already resolved.
+	 */
+	private synchronized void resolve(final int section) {
+		if ((resolved & section) != 0) {
+			return;
+		}
+		final ReferenceData referenceData = data;
+		if (referenceData != null) {
+			switch (section) {
+			case COUNTRY:
+				country = referenceData.getClassifier().decodeCountry(code);
+				break;
+			case REGION:
+				region = referenceData.getClassifier().decodeRegion(code);
+				break;
+			case MANUFACTURER:
+				manufacturer = referenceData.getManufacturerIndex().resolve(code);
+				break;
+			case VDS:
+				vds = referenceData.findVds(getManufacturer(), code);
+				break;
+			default:
+				vis = referenceData.findVis(getManufacturer(), code);
+				break;
+			}
+		}
+		markResolved(section);
+	}
+
+	/**
+	 * Marks the section as resolved, the caller must hold the lock.
+	 */
+	private void markResolved(final int section) {
+		final int value = resolved | section;
+		if (value == ALL) {
+			data = null;
+		}
+		resolved = value;
+	}
+
 	/**
 	 * Default constructor to construct new vin object with given code.
 	 * 
@@ -139,10 +226,28 @@ public final class Vin implements Serializable {
 		this.code = code;
 	}
 
+	/**
+	 * @return the model year or {@link ModelYear#UNKNOWN}
+	 * @see ModelYear#decode(CharSequence)
+	 */
+	public int getModelYear() {
+		return ModelYear.decode(code);
+	}
+
+	/**
+	 * @return the plant code at position 11 or 0 if the code is too short
+	 */
+	public char getPlant() {
+		return code != null && code.length() > PLANT_INDEX ? code.charAt(PLANT_INDEX) : 0;
+	}
+
 	/**
 	 * @return the country
 	 */
 	public WMICountry getCountry() {
+		if ((resolved & COUNTRY) == 0) {
+			resolve(COUNTRY);
+		}
 		return country;
 	}
 
@@ -150,14 +255,18 @@ public final class Vin implements Serializable {
 	 * @param country
 	 *            the country to set
 	 */
-	public void setCountry(WMICountry country) {
+	public synchronized void setCountry(WMICountry country) {
 		this.country = country;
+		markResolved(COUNTRY);
 	}
 
 	/**
 	 * @return the region
 	 */
 	public WMIRegion getRegion() {
+		if ((resolved & REGION) == 0) {
+			resolve(REGION);
+		}
 		return region;
 	}
 
@@ -165,14 +274,18 @@ public final class Vin implements Serializable {
 	 * @param region
 	 *            the region to set
 	 */
-	public void setRegion(WMIRegion region) {
+	public synchronized void setRegion(WMIRegion region) {
 		this.region = region;
+		markResolved(REGION);
 	}
 
 	/**
 	 * @return the manufacturer
 	 */
 	public WMIManufacturer getManufacturer() {
+		if ((resolved & MANUFACTURER) == 0) {
+			resolve(MANUFACTURER);
+		}
 		return manufacturer;
 	}
 
@@ -180,14 +293,18 @@ public final class Vin implements Serializable {
 	 * @param manufacturer
 	 *            the manufacturer to set
 	 */
-	public void setManufacturer(WMIManufacturer manufacturer) {
+	public synchronized void setManufacturer(WMIManufacturer manufacturer) {
 		this.manufacturer = manufacturer;
+		markResolved(MANUFACTURER);
 	}
 
 	/**
 	 * @return the vds
 	 */
 	public VehicleDescriptorSection getVds() {
+		if ((resolved & VDS) == 0) {
+			resolve(VDS);
+		}
 		return vds;
 	}
 
@@ -195,14 +312,18 @@ public final class Vin implements Serializable {
 	 * @param vds
 	 *            the vds to set
 	 */
-	public void setVds(VehicleDescriptorSection vds) {
+	public synchronized void setVds(VehicleDescriptorSection vds) {
 		this.vds = vds;
+		markResolved(VDS);
 	}
 
 	/**
 	 * @return the vis
 	 */
 	public VehicleIndicatorSection getVis() {
+		if ((resolved & VIS) == 0) {
+			resolve(VIS);
+		}
 		return vis;
 	}
 
@@ -210,8 +331,24 @@ public final class Vin implements Serializable {
 	 * @param vis
 	 *            the vis to set
 	 */
-	public void setVis(VehicleIndicatorSection vis) {
+	public synchronized void setVis(VehicleIndicatorSection vis) {
 		this.vis = vis;
+		markResolved(VIS);
+	}
+
+	/**
+	 * Resolves all sections of a lazy vin before it is serialized, because the
+	 * reference data is not serialized.
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		getCountry();
+		getRegion();
+		getManufacturer();
+		getVds();
+		getVis();
+		synchronized (this) {
+			out.defaultWriteObject();
+		}
 	}
 
 	/*
@@ -15,9 +15,30 @@
  */
 package de.pawlidi.jvindecoder;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import de.pawlidi.jvindecoder.cache.TinyLfuCache;
+import de.pawlidi.jvindecoder.db.DataBaseManager;
+import de.pawlidi.jvindecoder.db.ReferenceData;
+import de.pawlidi.jvindecoder.jfr.DecoderEvents;
+import de.pawlidi.jvindecoder.metrics.DecodeStage;
+import de.pawlidi.jvindecoder.metrics.DecoderMetrics;
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
 import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
 import de.pawlidi.jvindecoder.model.WMIRegion;
 import de.pawlidi.jvindecoder.utils.Utils;
+import de.pawlidi.jvindecoder.utils.VinAlphabet;
 
 /**
  * @author pawlidim
@@ -25,8 +46,227 @@ import de.pawlidi.jvindecoder.utils.Utils;
  */
 public final class VinDataFactory {
 
+	/** Defines the length of a VIN */
+	public static final int VIN_LENGTH = 17;
+	/** Defines the index of the check digit */
+	public static final int CHECK_DIGIT_INDEX = 8;
+
+	private static final int[] WEIGHTS = { 8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2 };
+	private static final char[] CHECK_DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'X' };
+
+	/** Defines the stages served by the prefix cache */
+	private static final DecodeStage[] PREFIX_STAGES = { DecodeStage.REGION, DecodeStage.COUNTRY,
+			DecodeStage.MANUFACTURER, DecodeStage.VDS };
+
+	/** Defines the number of VINs below which a batch is decoded sequentially */
+	private static final int BATCH_THRESHOLD = 1024;
+
+	private static volatile ReferenceData referenceData;
+
+	private static final AtomicReference<SnapshotCache<Vin>> cache = new AtomicReference<SnapshotCache<Vin>>();
+
+	private static final AtomicReference<SnapshotCache<VinPrefix>> prefixCache =
+			new AtomicReference<SnapshotCache<VinPrefix>>();
+
+	/**
+	 * Returns the in-memory reference data used for decoding. Unless replaced,
+	 * this is the reference data of the {@link DataBaseManager}.
+	 * 
+	 * @return reference data
+	 */
+	static ReferenceData getReferenceData() {
+		final ReferenceData data = referenceData;
+		return data != null ? data : DataBaseManager.instance().getReferenceData();
+	}
+
+	/**
+	 * Replaces the reference data used for decoding.
+	 * 
+	 * @param referenceData
+	 *            to set, null to use the reference data of the database again
+	 */
+	static void setReferenceData(ReferenceData referenceData) {
+		VinDataFactory.referenceData = referenceData;
+	}
+
+	/**
+	 * Removes all entries of the enabled caches. The caches belong to the
+	 * reference data their entries were decoded with, a new reference data
+	 * starts with empty caches.
+	 */
+	public static void clearCaches() {
+		final SnapshotCache<Vin> vinCache = cache.get();
+		if (vinCache != null) {
+			vinCache.cache.clear();
+		}
+		final SnapshotCache<VinPrefix> vinPrefixCache = prefixCache.get();
+		if (vinPrefixCache != null) {
+			vinPrefixCache.cache.clear();
+		}
+	}
+
+	/**
+	 * Returns the cache of the given reference data. If the enabled cache
+	 * belongs to an older reference data, it is replaced by an empty cache of
+	 * the same size. Decodes of a replaced reference data are not cached, so
+	 * they can not add stale entries.
+	 * 
+	 * @param reference
+	 *            the enabled cache
+	 * @param data
+	 *            the reference data of the decode
+	 * @return the cache or null if disabled or data is not current
+	 */
+	private static <V> TinyLfuCache<String, V> cacheOf(AtomicReference<SnapshotCache<V>> reference,
+			ReferenceData data) {
+		SnapshotCache<V> current = reference.get();
+		while (current != null && current.data != data) {
+			if (current.data == null) {
+				// bind a new cache to the first reference data
+				if (reference.compareAndSet(current, new SnapshotCache<V>(data, current.cache))) {
+					return current.cache;
+				}
+			} else {
+				if (data != getReferenceData()) {
+					return null;
+				}
+				final SnapshotCache<V> next = new SnapshotCache<V>(data,
+						new TinyLfuCache<String, V>(current.cache.getMaximumSize()));
+				if (reference.compareAndSet(current, next)) {
+					return next.cache;
+				}
+			}
+			current = reference.get();
+		}
+		return current == null ? null : current.cache;
+	}
+
+	/**
+	 * Enables the cache of decoded vins. Repeated decodes of the same code
+	 * return the same vin instance, which must therefore not be modified by the
+	 * caller. An already enabled cache is replaced.
+	 * 
+	 * @param maximumSize
+	 *            the maximum number of cached vins, at least
+	 *            {@link TinyLfuCache#MIN_SIZE}
+	 */
+	public static void enableCache(int maximumSize) {
+		cache.set(new SnapshotCache<Vin>(null, new TinyLfuCache<String, Vin>(maximumSize)));
+	}
+
+	/**
+	 * Disables the cache of decoded vins.
+	 */
+	public static void disableCache() {
+		cache.set(null);
+	}
+
+	/**
+	 * @return the cache of decoded vins of the current reference data or null
+	 *         if disabled
+	 */
+	public static TinyLfuCache<String, Vin> getCache() {
+		return cacheOf(cache, getReferenceData());
+	}
+
+	/**
+	 * Enables the cache of decoded vin prefixes. Region, country, manufacturer
+	 * and vds are taken from the cache, if another vin with the same prefix has
+	 * been decoded before. Only the vis is decoded for every vin. An already
+	 * enabled cache is replaced.
+	 * 
+	 * @param maximumSize
+	 *            the maximum number of cached prefixes, at least
+	 *            {@link TinyLfuCache#MIN_SIZE}
+	 * @see VinPrefix
+	 */
+	public static void enablePrefixCache(int maximumSize) {
+		prefixCache.set(new SnapshotCache<VinPrefix>(null, new TinyLfuCache<String, VinPrefix>(maximumSize)));
+	}
+
+	/**
+	 * Disables the cache of decoded vin prefixes.
+	 */
+	public static void disablePrefixCache() {
+		prefixCache.set(null);
+	}
+
+	/**
+	 * @return the cache of decoded vin prefixes of the current reference data
+	 *         or null if disabled
+	 */
+	public static TinyLfuCache<String, VinPrefix> getPrefixCache() {
+		return cacheOf(prefixCache, getReferenceData());
+	}
+
+	/**
+	 * Checks if the given code has 17 characters, leading and trailing
+	 * whitespace is ignored. The characters and the check digit are not
+	 * verified, see {@link #validate(CharSequence)}.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return true, if the code has 17 characters
+	 */
 	public static boolean isValidVIN(String code) {
-		return Utils.isNotBlank(code) && code.trim().length() == 17;
+		if (code == null) {
+			return false;
+		}
+		int start = 0;
+		int end = code.length();
+		while (start < end && code.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && code.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return end - start == VIN_LENGTH;
+	}
+
+	/**
+	 * Validates the given code according to ISO 3779. The code must have exactly
+	 * 17 upper case characters without the letters I, O and Q, and the check
+	 * digit at position 9 must match.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return the validation result, never null
+	 */
+	public static VinValidation validate(CharSequence code) {
+		return validate(code, true);
+	}
+
+	/**
+	 * Validates the given code according to ISO 3779 in a single pass. The check
+	 * digit is mandatory in North America only and may be skipped for other
+	 * regions.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @param verifyCheckDigit
+	 *            true, if the check digit at position 9 should be verified
+	 * @return the validation result, never null
+	 */
+	public static VinValidation validate(CharSequence code, boolean verifyCheckDigit) {
+		if (code == null || code.length() == 0) {
+			return VinValidation.BLANK;
+		}
+		if (code.length() != VIN_LENGTH) {
+			return VinValidation.INVALID_LENGTH;
+		}
+		int sum = 0;
+		for (int i = 0; i < VIN_LENGTH; i++) {
+			final int value = VinAlphabet.value(code.charAt(i));
+			if (value < 0) {
+				return value == VinAlphabet.FORBIDDEN ? VinValidation.FORBIDDEN_CHARACTER
+						: VinValidation.INVALID_CHARACTER;
+			}
+			sum += value * WEIGHTS[i];
+		}
+		if (verifyCheckDigit && code.charAt(CHECK_DIGIT_INDEX) != CHECK_DIGITS[sum % 11]) {
+			return VinValidation.INVALID_CHECK_DIGIT;
+		}
+		return VinValidation.VALID;
 	}
 
 	public static String extractWMI(String code) {
@@ -37,25 +277,271 @@ public final class VinDataFactory {
 		if (!isValidVIN(code)) {
 			return null;
 		}
-		final String region = Utils.truncate(code, 1);
-		// for (WMIRegion wmiRegion : WMIRegion.values()) {
-		// if (Pattern.matches(wmiRegion.getRegex(), region)) {
-		// return wmiRegion;
-		// }
-		// }
-		return null;
+		return getReferenceData().getClassifier().region(code.trim().charAt(0));
 	}
 
 	public static WMICountry decodeCountry(String code) {
 		if (!isValidVIN(code)) {
 			return null;
 		}
-		final String region = Utils.truncate(code, 1);
-		// for (WMICountry wmiCountry : WMICountry.values()) {
-		// if (Pattern.matches(wmiCountry.getRegex(), region)) {
-		// return wmiCountry;
-		// }
-		// }
-		return null;
+		final String normalized = code.trim();
+		return getReferenceData().getClassifier().country(normalized.charAt(0), normalized.charAt(1));
+	}
+
+	public static WMIManufacturer decodeManufacturer(String code) {
+		if (!isValidVIN(code)) {
+			return null;
+		}
+		return getReferenceData().getManufacturerIndex().resolve(code.trim());
+	}
+
+	/**
+	 * Decodes the given code into a vin object with region, country,
+	 * manufacturer, vds and vis. Leading and trailing whitespace is ignored. If
+	 * the cache is enabled, a cached vin may be returned.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return decoded vin or null if the code is not a valid VIN
+	 */
+	public static Vin decode(String code) {
+		return decode(code, getReferenceData());
+	}
+
+	private static Vin decode(String code, ReferenceData data) {
+		final long start = DecoderMetrics.start();
+		final boolean valid = isValidVIN(code);
+		DecoderMetrics.record(DecodeStage.VALIDATION, start);
+		DecoderMetrics.count(valid);
+		if (!valid) {
+			return null;
+		}
+		final String normalized = code.trim();
+		final Object event = DecoderEvents.beginDecode();
+		final TinyLfuCache<String, Vin> vinCache = cacheOf(cache, data);
+		Vin vin = vinCache == null ? null : vinCache.get(normalized);
+		final boolean cached = vin != null;
+		if (!cached) {
+			vin = decodeNormalized(normalized, data);
+			if (vinCache != null) {
+				vinCache.put(normalized, vin);
+			}
+		}
+		DecoderEvents.commitDecode(event, normalized, cached);
+		DecoderMetrics.record(DecodeStage.DECODE, start);
+		return vin;
+	}
+
+	private static Vin decodeNormalized(String normalized, ReferenceData data) {
+		final VinPrefix prefix = decodePrefix(normalized, data);
+		final WMIManufacturer manufacturer = prefix.getManufacturer();
+		final long start = DecoderMetrics.start();
+		final Object event = DecoderEvents.beginStage();
+		final VehicleIndicatorSection vis = manufacturer == null ? null : data.findVis(manufacturer, normalized);
+		DecoderEvents.commitStage(event, DecodeStage.VIS, normalized, false);
+		DecoderMetrics.record(DecodeStage.VIS, start);
+		return new Vin(normalized, prefix.getRegion(), prefix.getCountry(), manufacturer, prefix.getVds(), vis);
+	}
+
+	/**
+	 * Decodes only the requested fields of the given code. The lookups of all
+	 * other sections are skipped and their getters return null. Model year and
+	 * plant are derived from the code and need no lookup. The
+	 * {@link VinField#CHECK_DIGIT} decodes no section, it rejects a code with
+	 * invalid check digit. The caches are not used. Leading and trailing
+	 * whitespace is ignored.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @param fields
+	 *            the requested fields
+	 * @return vin with the requested sections or null if the code is not a
+	 *         valid VIN
+	 */
+	public static Vin decode(String code, Set<VinField> fields) {
+		if (!isValidVIN(code)) {
+			return null;
+		}
+		final String normalized = code.trim();
+		if (fields.contains(VinField.CHECK_DIGIT) && !validate(normalized).isValid()) {
+			return null;
+		}
+		final ReferenceData data = getReferenceData();
+		final WMIClassifier classifier = data.getClassifier();
+		final boolean vds = fields.contains(VinField.VDS);
+		final boolean vis = fields.contains(VinField.VIS);
+		final WMIManufacturer manufacturer = vds || vis || fields.contains(VinField.MANUFACTURER)
+				? data.getManufacturerIndex().resolve(normalized) : null;
+		return new Vin(normalized, fields.contains(VinField.REGION) ? classifier.decodeRegion(normalized) : null,
+				fields.contains(VinField.COUNTRY) ? classifier.decodeCountry(normalized) : null,
+				fields.contains(VinField.MANUFACTURER) ? manufacturer : null,
+				vds ? data.findVds(manufacturer, normalized) : null, vis ? data.findVis(manufacturer, normalized) : null);
+	}
+
+	/**
+	 * Creates a lazy vin object for the given code. Every section is decoded on
+	 * first access of its getter, sections which are never read are never
+	 * decoded. Leading and trailing whitespace is ignored.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return lazy vin or null if the code is not a valid VIN
+	 */
+	public static Vin decodeLazy(String code) {
+		if (!isValidVIN(code)) {
+			return null;
+		}
+		return new Vin(code.trim(), getReferenceData());
+	}
+
+	private static VinPrefix decodePrefix(String normalized, ReferenceData data) {
+		final TinyLfuCache<String, VinPrefix> vinPrefixCache = cacheOf(prefixCache, data);
+		if (vinPrefixCache == null) {
+			return decodePrefixUncached(normalized, data);
+		}
+		final String key = VinPrefix.key(normalized);
+		VinPrefix prefix = vinPrefixCache.get(key);
+		if (prefix == null) {
+			prefix = decodePrefixUncached(normalized, data);
+			vinPrefixCache.put(key, prefix);
+		} else if (DecoderEvents.isRecording()) {
+			for (DecodeStage stage : PREFIX_STAGES) {
+				DecoderEvents.commitStage(DecoderEvents.beginStage(), stage, normalized, true);
+			}
+		}
+		return prefix;
+	}
+
+	private static VinPrefix decodePrefixUncached(String normalized, ReferenceData data) {
+		final WMIClassifier classifier = data.getClassifier();
+		long time = DecoderMetrics.start();
+		Object event = DecoderEvents.beginStage();
+		final WMIRegion region = classifier.decodeRegion(normalized);
+		DecoderEvents.commitStage(event, DecodeStage.REGION, normalized, false);
+		time = DecoderMetrics.record(DecodeStage.REGION, time);
+		event = DecoderEvents.beginStage();
+		final WMICountry country = classifier.decodeCountry(normalized);
+		DecoderEvents.commitStage(event, DecodeStage.COUNTRY, normalized, false);
+		time = DecoderMetrics.record(DecodeStage.COUNTRY, time);
+		event = DecoderEvents.beginStage();
+		final WMIManufacturer manufacturer = data.getManufacturerIndex().resolve(normalized);
+		DecoderEvents.commitStage(event, DecodeStage.MANUFACTURER, normalized, false);
+		time = DecoderMetrics.record(DecodeStage.MANUFACTURER, time);
+		event = DecoderEvents.beginStage();
+		final VehicleDescriptorSection vds = manufacturer == null ? null : data.findVds(manufacturer, normalized);
+		DecoderEvents.commitStage(event, DecodeStage.VDS, normalized, false);
+		DecoderMetrics.record(DecodeStage.VDS, time);
+		return new VinPrefix(region, country, manufacturer, vds);
+	}
+
+	/**
+	 * Decodes all given codes in the common fork join pool.
+	 * 
+	 * @param codes
+	 *            the vins, may be null
+	 * @return decoded vins in input order, null for every invalid code
+	 * @see #decodeAll(Collection, ForkJoinPool)
+	 */
+	public static List<Vin> decodeAll(Collection<String> codes) {
+		return decodeAll(codes, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Decodes all given codes in the given fork join pool. The input is split
+	 * into chunks which are decoded in parallel against the same in-memory
+	 * reference data.
+	 * 
+	 * @param codes
+	 *            the vins, may be null
+	 * @param pool
+	 *            the pool to decode in
+	 * @return decoded vins in input order, null for every invalid code
+	 */
+	public static List<Vin> decodeAll(Collection<String> codes, ForkJoinPool pool) {
+		if (codes == null || codes.isEmpty()) {
+			return Collections.emptyList();
+		}
+		final String[] input = codes.toArray(new String[codes.size()]);
+		final Vin[] output = new Vin[input.length];
+		pool.invoke(new DecodeTask(input, output, 0, input.length, getReferenceData()));
+		return Arrays.asList(output);
+	}
+
+	/**
+	 * Decodes the given stream of codes lazily and in parallel. The terminal
+	 * operation runs in the common fork join pool, or in the pool it is invoked
+	 * from.
+	 * 
+	 * @param codes
+	 *            the vins
+	 * @return ordered parallel stream of decoded vins, null for every invalid code
+	 */
+	public static Stream<Vin> decodeAll(Stream<String> codes) {
+		final ReferenceData data = getReferenceData();
+		return codes.parallel().map(code -> decode(code, data));
+	}
+
+	/**
+	 * Decodes the given stream of codes in the given fork join pool.
+	 * 
+	 * @param codes
+	 *            the vins
+	 * @param pool
+	 *            the pool to decode in
+	 * @return decoded vins in input order, null for every invalid code
+	 */
+	public static List<Vin> decodeAll(Stream<String> codes, ForkJoinPool pool) {
+		return pool.submit(() -> decodeAll(codes).collect(Collectors.toList())).join();
+	}
+
+	/**
+	 * Fork join task to decode a range of codes into the output array.
+	 */
+	private static final class DecodeTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String[] input;
+		private final Vin[] output;
+		private final int from;
+		private final int to;
+		private final ReferenceData data;
+
+		DecodeTask(String[] input, Vin[] output, int from, int to, ReferenceData data) {
+			super();
+			this.input = input;
+			this.output = output;
+			this.from = from;
+			this.to = to;
+			this.data = data;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= BATCH_THRESHOLD) {
+				for (int i = from; i < to; i++) {
+					output[i] = decode(input[i], data);
+				}
+				return;
+			}
+			final int middle = (from + to) >>> 1;
+			invokeAll(new DecodeTask(input, output, from, middle, data),
+					new DecodeTask(input, output, middle, to, data));
+		}
+	}
+
+	/**
+	 * Cache bound to the reference data its entries were decoded with.
+	 */
+	private static final class SnapshotCache<V> {
+
+		private final ReferenceData data;
+		private final TinyLfuCache<String, V> cache;
+
+		SnapshotCache(ReferenceData data, TinyLfuCache<String, V> cache) {
+			super();
+			this.data = data;
+			this.cache = cache;
+		}
 	}
 }
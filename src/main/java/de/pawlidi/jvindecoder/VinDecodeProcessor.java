@@ -0,0 +1,338 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Reactive streams processor, which decodes a stream of raw codes into
+ * {@link VinDecodeResult}s. The codes are decoded in parallel on an executor,
+ * the results are emitted in input order.
+ * 
+ * <p>
+ * At most {@code bufferSize} codes are requested from upstream and not yet
+ * emitted downstream. New codes are only requested when the downstream
+ * subscriber has consumed results, so a slow subscriber slows down the
+ * publisher and the memory stays bounded. The processor supports a single
+ * subscriber.
+ * </p>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class VinDecodeProcessor implements Processor<CharSequence, VinDecodeResult> {
+
+	/** Defines the default number of buffered codes */
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+
+	private final Executor executor;
+	private final ForkJoinPool ownPool;
+	private final int bufferSize;
+	private final int replenish;
+	private final boolean verifyCheckDigit;
+
+	private final Queue<CompletableFuture<VinDecodeResult>> queue = new ConcurrentLinkedQueue<CompletableFuture<VinDecodeResult>>();
+	private final AtomicLong requested = new AtomicLong();
+	private final AtomicInteger wip = new AtomicInteger();
+
+	private Subscription upstream;
+	private Subscriber<? super VinDecodeResult> downstream;
+	private volatile boolean connected;
+	private volatile boolean done;
+	private volatile Throwable error;
+	private volatile boolean cancelled;
+	private int consumed;
+
+	/**
+	 * Default constructor to construct the processor, which decodes in a pool
+	 * with one thread per processor and does not verify the check digit.
+	 */
+	public VinDecodeProcessor() {
+		this(Runtime.getRuntime().availableProcessors(), DEFAULT_BUFFER_SIZE, false);
+	}
+
+	/**
+	 * Constructs the processor with an own pool, which is shut down when the
+	 * stream terminates.
+	 * 
+	 * @param parallelism
+	 *            the number of codes decoded concurrently
+	 * @param bufferSize
+	 *            the maximum number of requested but not emitted codes
+	 * @param verifyCheckDigit
+	 *            true, if the check digit should be verified
+	 */
+	public VinDecodeProcessor(int parallelism, int bufferSize, boolean verifyCheckDigit) {
+		this(new ForkJoinPool(parallelism), true, bufferSize, verifyCheckDigit);
+	}
+
+	/**
+	 * Constructs the processor with the given executor, which is not shut down.
+	 * 
+	 * @param executor
+	 *            the executor to decode in
+	 * @param bufferSize
+	 *            the maximum number of requested but not emitted codes
+	 * @param verifyCheckDigit
+	 *            true, if the check digit should be verified
+	 */
+	public VinDecodeProcessor(Executor executor, int bufferSize, boolean verifyCheckDigit) {
+		this(executor, false, bufferSize, verifyCheckDigit);
+	}
+
+	private VinDecodeProcessor(Executor executor, boolean ownPool, int bufferSize, boolean verifyCheckDigit) {
+		super();
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("bufferSize must be positive");
+		}
+		this.executor = executor;
+		this.ownPool = ownPool ? (ForkJoinPool) executor : null;
+		this.bufferSize = bufferSize;
+		this.replenish = Math.max(1, bufferSize - (bufferSize >> 2));
+		this.verifyCheckDigit = verifyCheckDigit;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+	 */
+	@Override
+	public void subscribe(Subscriber<? super VinDecodeResult> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("subscriber must not be null");
+		}
+		synchronized (this) {
+			if (downstream != null) {
+				subscriber.onSubscribe(new Subscription() {
+					@Override
+					public void request(long n) {
+					}
+
+					@Override
+					public void cancel() {
+					}
+				});
+				subscriber.onError(new IllegalStateException("Processor supports only one subscriber"));
+				return;
+			}
+			downstream = subscriber;
+		}
+		connect();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.reactivestreams.Subscriber#onSubscribe(org.reactivestreams.Subscription)
+	 */
+	@Override
+	public void onSubscribe(Subscription subscription) {
+		if (subscription == null) {
+			throw new NullPointerException("subscription must not be null");
+		}
+		synchronized (this) {
+			if (upstream != null) {
+				subscription.cancel();
+				return;
+			}
+			upstream = subscription;
+		}
+		connect();
+	}
+
+	/**
+	 * Passes the downstream subscription and requests the first codes, as soon
+	 * as upstream and downstream are known.
+	 */
+	private void connect() {
+		synchronized (this) {
+			if (connected || upstream == null || downstream == null) {
+				return;
+			}
+			connected = true;
+		}
+		downstream.onSubscribe(new Subscription() {
+			@Override
+			public void request(long n) {
+				if (n <= 0) {
+					upstream.cancel();
+					error = new IllegalArgumentException("Requested " + n + " results, must be positive");
+					done = true;
+				} else {
+					add(requested, n);
+				}
+				drain();
+			}
+
+			@Override
+			public void cancel() {
+				if (!cancelled) {
+					cancelled = true;
+					upstream.cancel();
+					drain();
+				}
+			}
+		});
+		upstream.request(bufferSize);
+		drain();
+	}
+
+	private static void add(AtomicLong requested, long n) {
+		long current;
+		long next;
+		do {
+			current = requested.get();
+			next = current + n < 0 ? Long.MAX_VALUE : current + n;
+		} while (!requested.compareAndSet(current, next));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.reactivestreams.Subscriber#onNext(java.lang.Object)
+	 */
+	@Override
+	public void onNext(CharSequence code) {
+		if (code == null) {
+			throw new NullPointerException("code must not be null");
+		}
+		if (done || cancelled) {
+			return;
+		}
+		final String value = code.toString();
+		CompletableFuture<VinDecodeResult> future;
+		try {
+			future = CompletableFuture.supplyAsync(() -> decode(value), executor);
+		} catch (RuntimeException e) {
+			future = new CompletableFuture<VinDecodeResult>();
+			future.completeExceptionally(e);
+		}
+		queue.offer(future);
+		future.whenComplete((result, throwable) -> drain());
+	}
+
+	private VinDecodeResult decode(String code) {
+		final String normalized = code.trim();
+		final VinValidation validation = VinDataFactory.validate(normalized, verifyCheckDigit);
+		return new VinDecodeResult(code, validation, validation.isValid() ? VinDataFactory.decode(normalized) : null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.reactivestreams.Subscriber#onError(java.lang.Throwable)
+	 */
+	@Override
+	public void onError(Throwable throwable) {
+		if (throwable == null) {
+			throw new NullPointerException("throwable must not be null");
+		}
+		error = throwable;
+		done = true;
+		drain();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.reactivestreams.Subscriber#onComplete()
+	 */
+	@Override
+	public void onComplete() {
+		done = true;
+		drain();
+	}
+
+	/**
+	 * Emits the decoded results in order as long as there is demand. Only one
+	 * thread at a time runs the loop, other threads only signal that there is
+	 * new work.
+	 */
+	private void drain() {
+		if (!connected || wip.getAndIncrement() != 0) {
+			return;
+		}
+		int missed = 1;
+		do {
+			if (cancelled) {
+				queue.clear();
+				shutdown();
+				return;
+			}
+			final long demand = requested.get();
+			long emitted = 0;
+			while (emitted != demand && !cancelled) {
+				final CompletableFuture<VinDecodeResult> head = queue.peek();
+				if (head == null || !head.isDone()) {
+					break;
+				}
+				queue.poll();
+				final VinDecodeResult result;
+				try {
+					result = head.join();
+				} catch (RuntimeException e) {
+					cancelled = true;
+					upstream.cancel();
+					queue.clear();
+					shutdown();
+					downstream.onError(e.getCause() != null ? e.getCause() : e);
+					return;
+				}
+				downstream.onNext(result);
+				emitted++;
+				if (++consumed == replenish) {
+					consumed = 0;
+					if (!done) {
+						upstream.request(replenish);
+					}
+				}
+			}
+			if (emitted != 0 && demand != Long.MAX_VALUE) {
+				requested.addAndGet(-emitted);
+			}
+			if (done && !cancelled && (error != null || queue.isEmpty())) {
+				cancelled = true;
+				queue.clear();
+				shutdown();
+				if (error != null) {
+					downstream.onError(error);
+				} else {
+					downstream.onComplete();
+				}
+				return;
+			}
+			missed = wip.addAndGet(-missed);
+		} while (missed != 0);
+	}
+
+	private void shutdown() {
+		if (ownPool != null) {
+			ownPool.shutdown();
+		}
+	}
+}
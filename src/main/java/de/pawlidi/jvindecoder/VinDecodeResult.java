@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+/**
+ * Result of the decoding of one code by the {@link VinDecodeProcessor}.
+ * 
+ * @author pawlidim
+ *
+ */
+public final class VinDecodeResult {
+
+	private final String code;
+	private final VinValidation validation;
+	private final Vin vin;
+
+	/**
+	 * Default constructor to construct the result.
+	 * 
+	 * @param code
+	 *            the raw code
+	 * @param validation
+	 *            the validation result
+	 * @param vin
+	 *            the decoded vin, null if the code is invalid
+	 */
+	public VinDecodeResult(String code, VinValidation validation, Vin vin) {
+		super();
+		this.code = code;
+		this.validation = validation;
+		this.vin = vin;
+	}
+
+	/**
+	 * @return the raw code
+	 */
+	public String getCode() {
+		return code;
+	}
+
+	/**
+	 * @return the validation result
+	 */
+	public VinValidation getValidation() {
+		return validation;
+	}
+
+	/**
+	 * @return the decoded vin or null if the code is invalid
+	 */
+	public Vin getVin() {
+		return vin;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "VinDecodeResult<" + code + "|" + validation + ">";
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+/**
+ * Fields of a VIN which can be requested from a projection decode. Model year
+ * and plant are derived from the code and always available, they are no
+ * fields of the projection.
+ * 
+ * @author pawlidim
+ *
+ * @see VinDataFactory#decode(String, java.util.Set)
+ */
+public enum VinField {
+
+	/** The wmi country */
+	COUNTRY,
+	/** The wmi region */
+	REGION,
+	/** The wmi manufacturer */
+	MANUFACTURER,
+	/** The vehicle descriptor section */
+	VDS,
+	/** The vehicle indicator section */
+	VIS,
+	/**
+	 * No section but a validation switch, the VIN is rejected if the check
+	 * digit at position 9 does not match
+	 */
+	CHECK_DIGIT;
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import de.pawlidi.jvindecoder.db.ReferenceData;
+
+/**
+ * Decoder for newline delimited VIN files. The file is split into segments on
+ * line boundaries, every segment is memory-mapped and scanned in parallel. The
+ * lines are validated and decoded directly from the mapped buffer without
+ * creating a string per line, the results are passed to a {@link VinSink}.
+ *
+ * <p>
+ * Leading and trailing whitespace (including {@code \r}) of a line is ignored,
+ * blank lines are skipped.
+ * </p>
+ *
+ * @author pawlidim
+ *
+ */
+public final class VinFileDecoder {
+
+	/** Defines the default segment size of 64 MB */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	private final ForkJoinPool pool;
+	private final int segmentSize;
+	private final boolean verifyCheckDigit;
+
+	/**
+	 * Default constructor to construct the file decoder, which uses the common
+	 * fork join pool and does not verify the check digit.
+	 */
+	public VinFileDecoder() {
+		this(ForkJoinPool.commonPool(), DEFAULT_SEGMENT_SIZE, false);
+	}
+
+	/**
+	 * @param pool
+	 *            the pool to decode the segments in
+	 * @param segmentSize
+	 *            the approximate number of bytes of a segment
+	 * @param verifyCheckDigit
+	 *            true, if the check digit should be verified
+	 */
+	public VinFileDecoder(ForkJoinPool pool, int segmentSize, boolean verifyCheckDigit) {
+		super();
+		if (segmentSize <= 0) {
+			throw new IllegalArgumentException("segmentSize must be positive");
+		}
+		this.pool = pool;
+		this.segmentSize = segmentSize;
+		this.verifyCheckDigit = verifyCheckDigit;
+	}
+
+	/**
+	 * Decodes all lines of the given file.
+	 *
+	 * @param file
+	 *            the newline delimited VIN file
+	 * @param sink
+	 *            the thread-safe receiver of the decoded lines
+	 * @return number of decoded lines
+	 * @throws IOException
+	 *             if the file could not be read
+	 */
+	public long decode(final Path file, final VinSink sink) throws IOException {
+		final ReferenceData data = VinDataFactory.getReferenceData();
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final List<SegmentTask> tasks = new ArrayList<SegmentTask>();
+			final long size = channel.size();
+			long start = 0;
+			while (start < size) {
+				final long end = nextLineStart(channel, Math.min(start + segmentSize, size), size);
+				tasks.add(new SegmentTask(channel, start, end, data, sink));
+				start = end;
+			}
+			try {
+				return pool.invoke(new RecursiveTask<Long>() {
+					@Override
+					protected Long compute() {
+						long lines = 0;
+						for (SegmentTask task : ForkJoinTask.invokeAll(tasks)) {
+							lines += task.join();
+						}
+						return lines;
+					}
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	/**
+	 * Returns the position after the next newline at or after the given
+	 * position.
+	 */
+	private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(256);
+		long current = position;
+		while (current < size) {
+			buffer.clear();
+			final int read = channel.read(buffer, current);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; i++) {
+				if (buffer.get(i) == '\n') {
+					return current + i + 1;
+				}
+			}
+			current += read;
+		}
+		return size;
+	}
+
+	/**
+	 * Scans one mapped segment of the file.
+	 */
+	private final class SegmentTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final FileChannel channel;
+		private final long start;
+		private final long end;
+		private final ReferenceData data;
+		private final VinSink sink;
+
+		SegmentTask(FileChannel channel, long start, long end, ReferenceData data, VinSink sink) {
+			super();
+			this.channel = channel;
+			this.start = start;
+			this.end = end;
+			this.data = data;
+			this.sink = sink;
+		}
+
+		@Override
+		protected Long compute() {
+			final MappedByteBuffer buffer;
+			try {
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			final VinRecord record = new VinRecord();
+			final int limit = buffer.limit();
+			long lines = 0;
+			int lineStart = 0;
+			while (lineStart < limit) {
+				int lineEnd = lineStart;
+				while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+					lineEnd++;
+				}
+				int from = lineStart;
+				int to = lineEnd;
+				while (from < to && (buffer.get(from) & 0xFF) <= ' ') {
+					from++;
+				}
+				while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') {
+					to--;
+				}
+				if (to > from) {
+					record.reset(buffer, from, to - from, start + from);
+					decode(record);
+					sink.accept(record);
+					lines++;
+				}
+				lineStart = lineEnd + 1;
+			}
+			return lines;
+		}
+
+		private void decode(VinRecord record) {
+			final VinValidation validation = VinDataFactory.validate(record, verifyCheckDigit);
+			if (!validation.isValid()) {
+				record.decoded(validation, null, null, null);
+				return;
+			}
+			final WMIClassifier classifier = data.getClassifier();
+			record.decoded(validation, classifier.decodeRegion(record), classifier.decodeCountry(record),
+					data.getManufacturerIndex().resolve(record));
+		}
+	}
+}
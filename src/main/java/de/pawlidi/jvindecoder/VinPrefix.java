@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+/**
+ * The decoded parts of a VIN prefix, which are shared by all vehicles of the
+ * same type: region, country, manufacturer and vds. The prefix covers the
+ * positions 1 to 11, for small manufacturers additionally the positions 12 to
+ * 14, which complete the wmi code.
+ * 
+ * @author pawlidim
+ *
+ */
+public final class VinPrefix {
+
+	/** Defines the length of the prefix */
+	public static final int LENGTH = 11;
+	/** Defines the length of the prefix of small manufacturers */
+	public static final int SMALL_MANUFACTURER_LENGTH = 14;
+
+	private final WMIRegion region;
+	private final WMICountry country;
+	private final WMIManufacturer manufacturer;
+	private final VehicleDescriptorSection vds;
+
+	/**
+	 * Default constructor to construct the decoded prefix.
+	 * 
+	 * @param region
+	 * @param country
+	 * @param manufacturer
+	 * @param vds
+	 */
+	public VinPrefix(WMIRegion region, WMICountry country, WMIManufacturer manufacturer,
+			VehicleDescriptorSection vds) {
+		super();
+		this.region = region;
+		this.country = country;
+		this.manufacturer = manufacturer;
+		this.vds = vds;
+	}
+
+	/**
+	 * Returns the prefix of the given normalized vin, which determines all parts
+	 * of this class.
+	 * 
+	 * @param code
+	 *            the vin with 17 characters
+	 * @return the cache key of the prefix
+	 */
+	public static String key(String code) {
+		if (code.charAt(2) == WMIManufacturerIndex.SMALL_MANUFACTURER) {
+			return code.substring(0, SMALL_MANUFACTURER_LENGTH);
+		}
+		return code.substring(0, LENGTH);
+	}
+
+	/**
+	 * @return the region
+	 */
+	public WMIRegion getRegion() {
+		return region;
+	}
+
+	/**
+	 * @return the country
+	 */
+	public WMICountry getCountry() {
+		return country;
+	}
+
+	/**
+	 * @return the manufacturer
+	 */
+	public WMIManufacturer getManufacturer() {
+		return manufacturer;
+	}
+
+	/**
+	 * @return the vds
+	 */
+	public VehicleDescriptorSection getVds() {
+		return vds;
+	}
+
+}
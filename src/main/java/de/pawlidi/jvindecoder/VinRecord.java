@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+/**
+ * A single decoded line of a VIN file. The record is a view on the mapped
+ * file, it does not copy the characters of the line. The same record instance
+ * is reused for every line of a file segment, so it is only valid during the
+ * call of {@link VinSink#accept(VinRecord)}. Use {@link #toString()} or
+ * {@link #toVin()} to keep a line.
+ * 
+ * @author pawlidim
+ *
+ */
+public final class VinRecord implements CharSequence {
+
+	private ByteBuffer buffer;
+	private int offset;
+	private int length;
+	private long position;
+	private VinValidation validation;
+	private WMIRegion region;
+	private WMICountry country;
+	private WMIManufacturer manufacturer;
+
+	/**
+	 * Package visible default constructor.
+	 */
+	VinRecord() {
+		super();
+	}
+
+	/**
+	 * Points the record to the next line.
+	 */
+	void reset(ByteBuffer buffer, int offset, int length, long position) {
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+		this.position = position;
+		this.validation = null;
+		this.region = null;
+		this.country = null;
+		this.manufacturer = null;
+	}
+
+	void decoded(VinValidation validation, WMIRegion region, WMICountry country, WMIManufacturer manufacturer) {
+		this.validation = validation;
+		this.region = region;
+		this.country = country;
+		this.manufacturer = manufacturer;
+	}
+
+	/**
+	 * @return the byte position of the line in the file
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+	/**
+	 * @return the validation result of the line
+	 */
+	public VinValidation getValidation() {
+		return validation;
+	}
+
+	/**
+	 * @return the region, null if the line is not valid or not found
+	 */
+	public WMIRegion getRegion() {
+		return region;
+	}
+
+	/**
+	 * @return the country, null if the line is not valid or not found
+	 */
+	public WMICountry getCountry() {
+		return country;
+	}
+
+	/**
+	 * @return the manufacturer, null if the line is not valid or not found
+	 */
+	public WMIManufacturer getManufacturer() {
+		return manufacturer;
+	}
+
+	/**
+	 * Creates a new vin object with the decoded sections of this record.
+	 * 
+	 * @return vin
+	 */
+	public Vin toVin() {
+		return new Vin(toString(), region, country, manufacturer, null, null);
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index " + index + " out of range 0.." + length);
+		}
+		return (char) (buffer.get(offset + index) & 0xFF);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return toString().substring(start, end);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = buffer.get(offset + i);
+		}
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+
+}
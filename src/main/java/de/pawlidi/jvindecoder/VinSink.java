@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+/**
+ * Receives the decoded lines of a {@link VinFileDecoder}. File segments are
+ * decoded in parallel, so implementations must be thread-safe.
+ * 
+ * @author pawlidim
+ *
+ */
+public interface VinSink {
+
+	/**
+	 * Accepts the next decoded line. The record is reused after this method
+	 * returns.
+	 * 
+	 * @param record
+	 *            the decoded line
+	 */
+	void accept(VinRecord record);
+}
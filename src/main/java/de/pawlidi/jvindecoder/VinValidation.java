@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+/**
+ * Result of the strict ISO 3779 VIN validation.
+ * 
+ * @author pawlidim
+ *
+ * @see VinDataFactory#validate(CharSequence)
+ */
+public enum VinValidation {
+
+	/** The VIN is valid */
+	VALID,
+	/** The VIN is null or empty */
+	BLANK,
+	/** The VIN does not have 17 characters */
+	INVALID_LENGTH,
+	/** The VIN contains a character other than 0-9 and A-Z */
+	INVALID_CHARACTER,
+	/** The VIN contains one of the letters I, O or Q */
+	FORBIDDEN_CHARACTER,
+	/** The check digit at position 9 does not match */
+	INVALID_CHECK_DIGIT;
+
+	/**
+	 * @return true, if the VIN is valid
+	 */
+	public boolean isValid() {
+		return this == VALID;
+	}
+}
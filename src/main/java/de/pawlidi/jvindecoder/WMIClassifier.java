@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+import de.pawlidi.jvindecoder.utils.VinAlphabet;
+import de.pawlidi.utils.log.ILog;
+import de.pawlidi.utils.log.Logging;
+
+/**
+ * Compiled lookup table for the WMI region and country of a VIN. The regular
+ * expressions of the {@link WMIRegion} and {@link WMICountry} rows are
+ * evaluated once against every alphanumeric character, the result is stored
+ * in dense arrays indexed by the first (region) and the first two (country)
+ * characters of the VIN. A lookup is a plain array access.
+ *
+ * <p>
+ * If more than one row matches a character, the first row of the given list
+ * wins.
+ * </p>
+ *
+ * @author pawlidim
+ *
+ */
+public final class WMIClassifier {
+
+	private static final ILog log = Logging.getLog(WMIClassifier.class);
+
+	private final WMIRegion[] regions;
+	private final WMICountry[][] countries;
+
+	/**
+	 * Invisible constructor, use {@link #compile(List, List)}.
+	 */
+	private WMIClassifier(final WMIRegion[] regions, final WMICountry[][] countries) {
+		super();
+		this.regions = regions;
+		this.countries = countries;
+	}
+
+	/**
+	 * Compiles the given regions and countries into a new lookup table. Rows with
+	 * an invalid regular expression are skipped.
+	 *
+	 * @param regionList
+	 *            the wmi regions, may be null
+	 * @param countryList
+	 *            the wmi countries, may be null
+	 * @return compiled classifier
+	 */
+	public static WMIClassifier compile(final List<WMIRegion> regionList, final List<WMICountry> countryList) {
+		final WMIRegion[] regions = new WMIRegion[VinAlphabet.SIZE];
+		final WMICountry[][] countries = new WMICountry[VinAlphabet.SIZE][VinAlphabet.SIZE];
+		if (regionList != null) {
+			for (WMIRegion region : regionList) {
+				final boolean[] matches = matches(region.getWmiRegex());
+				if (matches == null) {
+					log.error("Skip wmi region {0} with invalid regex {1}", region.getName(), region.getWmiRegex());
+					continue;
+				}
+				for (int i = 0; i < VinAlphabet.SIZE; i++) {
+					if (matches[i] && regions[i] == null) {
+						regions[i] = region;
+					}
+				}
+			}
+		}
+		if (countryList != null) {
+			for (WMICountry country : countryList) {
+				final boolean[] prefixMatches = matches(country.getPrefixRegex());
+				final boolean[] suffixMatches = matches(country.getSuffixRegex());
+				if (prefixMatches == null || suffixMatches == null) {
+					log.error("Skip wmi country {0} with invalid regex {1},{2}", country.getName(),
+							country.getPrefixRegex(), country.getSuffixRegex());
+					continue;
+				}
+				for (int i = 0; i < VinAlphabet.SIZE; i++) {
+					if (!prefixMatches[i]) {
+						continue;
+					}
+					for (int j = 0; j < VinAlphabet.SIZE; j++) {
+						if (suffixMatches[j] && countries[i][j] == null) {
+							countries[i][j] = country;
+						}
+					}
+				}
+			}
+		}
+		return new WMIClassifier(regions, countries);
+	}
+
+	/**
+	 * Evaluates the regular expression against every alphanumeric character.
+	 *
+	 * @param regex
+	 * @return match flags by alphanumeric index, null if the regex is invalid
+	 */
+	private static boolean[] matches(final String regex) {
+		if (regex == null) {
+			return null;
+		}
+		final Pattern pattern;
+		try {
+			pattern = Pattern.compile(regex);
+		} catch (PatternSyntaxException e) {
+			return null;
+		}
+		final boolean[] matches = new boolean[VinAlphabet.SIZE];
+		for (int i = 0; i < VinAlphabet.SIZE; i++) {
+			matches[i] = pattern.matcher(String.valueOf(VinAlphabet.charAt(i))).matches();
+		}
+		return matches;
+	}
+
+	/**
+	 * Returns the region for the first character of a VIN.
+	 *
+	 * @param first
+	 *            the first character of the VIN
+	 * @return the region or null if not found
+	 */
+	public WMIRegion region(final char first) {
+		final int index = VinAlphabet.index(first);
+		return index < 0 ? null : regions[index];
+	}
+
+	/**
+	 * Returns the country for the first two characters of a VIN.
+	 *
+	 * @param first
+	 *            the first character of the VIN
+	 * @param second
+	 *            the second character of the VIN
+	 * @return the country or null if not found
+	 */
+	public WMICountry country(final char first, final char second) {
+		final int i = VinAlphabet.index(first);
+		final int j = VinAlphabet.index(second);
+		return i < 0 || j < 0 ? null : countries[i][j];
+	}
+
+	/**
+	 * Returns the region of the given VIN.
+	 *
+	 * @param code
+	 *            the vin, may be null
+	 * @return the region or null if not found
+	 */
+	public WMIRegion decodeRegion(final CharSequence code) {
+		return code == null || code.length() < 1 ? null : region(code.charAt(0));
+	}
+
+	/**
+	 * Returns the country of the given VIN.
+	 *
+	 * @param code
+	 *            the vin, may be null
+	 * @return the country or null if not found
+	 */
+	public WMICountry decodeCountry(final CharSequence code) {
+		return code == null || code.length() < 2 ? null : country(code.charAt(0), code.charAt(1));
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import java.util.List;
+
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.utils.VinAlphabet;
+import de.pawlidi.utils.log.ILog;
+import de.pawlidi.utils.log.Logging;
+
+/**
+ * In-memory index of the WMI manufacturers. Three character wmi codes are
+ * packed into a base 36 number and stored in a dense array, which is a perfect
+ * hash over all possible codes. Manufacturers with less than 500 vehicles per
+ * year use a {@code 9} as third character and extend the wmi with the
+ * positions 12 to 14 of the VIN. These six character codes are stored in a
+ * small open addressing table.
+ *
+ * <p>
+ * A lookup does not allocate any objects.
+ * </p>
+ *
+ * @author pawlidim
+ *
+ */
+public final class WMIManufacturerIndex {
+
+	private static final ILog log = Logging.getLog(WMIManufacturerIndex.class);
+
+	/** Defines the third wmi character of small manufacturers */
+	public static final char SMALL_MANUFACTURER = '9';
+
+	private static final int WMI_SIZE = VinAlphabet.SIZE * VinAlphabet.SIZE * VinAlphabet.SIZE;
+
+	private final WMIManufacturer[] manufacturers;
+	private final long[] smallKeys;
+	private final WMIManufacturer[] smallManufacturers;
+	private final int smallMask;
+
+	/**
+	 * Invisible constructor, use {@link #build(List)}.
+	 */
+	private WMIManufacturerIndex(WMIManufacturer[] manufacturers, long[] smallKeys,
+			WMIManufacturer[] smallManufacturers) {
+		super();
+		this.manufacturers = manufacturers;
+		this.smallKeys = smallKeys;
+		this.smallManufacturers = smallManufacturers;
+		this.smallMask = smallKeys.length - 1;
+	}
+
+	/**
+	 * Builds a new index from the given manufacturers. Manufacturers without a
+	 * valid three or six character wmi code are skipped. If a code occurs more
+	 * than once, the first manufacturer wins.
+	 *
+	 * @param manufacturerList
+	 *            the manufacturers, may be null
+	 * @return the index
+	 */
+	public static WMIManufacturerIndex build(final List<WMIManufacturer> manufacturerList) {
+		final WMIManufacturer[] manufacturers = new WMIManufacturer[WMI_SIZE];
+		int smallCount = 0;
+		if (manufacturerList != null) {
+			for (WMIManufacturer manufacturer : manufacturerList) {
+				if (manufacturer.getWmiCode() != null && manufacturer.getWmiCode().length() == 6) {
+					smallCount++;
+				}
+			}
+		}
+		int capacity = 2;
+		while (capacity < smallCount * 2) {
+			capacity <<= 1;
+		}
+		final WMIManufacturerIndex index = new WMIManufacturerIndex(manufacturers, new long[capacity],
+				new WMIManufacturer[capacity]);
+		if (manufacturerList != null) {
+			for (WMIManufacturer manufacturer : manufacturerList) {
+				final String wmiCode = manufacturer.getWmiCode();
+				final long key = wmiCode == null ? -1 : pack(wmiCode, 0, wmiCode.length());
+				if (key < 0 || (wmiCode.length() != 3 && wmiCode.length() != 6)) {
+					log.error("Skip wmi manufacturer {0} with invalid wmi code {1}", manufacturer.getName(), wmiCode);
+				} else if (wmiCode.length() == 3) {
+					if (manufacturers[(int) key] == null) {
+						manufacturers[(int) key] = manufacturer;
+					}
+				} else {
+					index.putSmall(key, manufacturer);
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Packs the characters of the given range into a base 36 number.
+	 *
+	 * @return packed code, -1 if a character is not alphanumeric
+	 */
+	private static long pack(final CharSequence code, final int start, final int end) {
+		long key = 0;
+		for (int i = start; i < end; i++) {
+			final int index = VinAlphabet.index(code.charAt(i));
+			if (index < 0) {
+				return -1;
+			}
+			key = key * VinAlphabet.SIZE + index;
+		}
+		return key;
+	}
+
+	private static int hash(final long key) {
+		final long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private void putSmall(final long key, final WMIManufacturer manufacturer) {
+		// keys are stored incremented by one, so zero marks a free slot
+		int slot = hash(key) & smallMask;
+		while (smallKeys[slot] != 0) {
+			if (smallKeys[slot] == key + 1) {
+				return;
+			}
+			slot = (slot + 1) & smallMask;
+		}
+		smallKeys[slot] = key + 1;
+		smallManufacturers[slot] = manufacturer;
+	}
+
+	private WMIManufacturer getSmall(final long key) {
+		int slot = hash(key) & smallMask;
+		long stored;
+		while ((stored = smallKeys[slot]) != 0) {
+			if (stored == key + 1) {
+				return smallManufacturers[slot];
+			}
+			slot = (slot + 1) & smallMask;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the manufacturer with the given three or six character wmi code.
+	 *
+	 * @param wmiCode
+	 *            the wmi code, may be null
+	 * @return the manufacturer or null if not found
+	 */
+	public WMIManufacturer get(final CharSequence wmiCode) {
+		if (wmiCode == null || (wmiCode.length() != 3 && wmiCode.length() != 6)) {
+			return null;
+		}
+		final long key = pack(wmiCode, 0, wmiCode.length());
+		if (key < 0) {
+			return null;
+		}
+		return wmiCode.length() == 3 ? manufacturers[(int) key] : getSmall(key);
+	}
+
+	/**
+	 * Resolves the manufacturer of the given VIN. For small manufacturers the
+	 * positions 12 to 14 are taken into account, if no six character code is
+	 * known the three character wmi is used.
+	 *
+	 * @param code
+	 *            the vin, may be null
+	 * @return the manufacturer or null if not found
+	 */
+	public WMIManufacturer resolve(final CharSequence code) {
+		if (code == null || code.length() < 3) {
+			return null;
+		}
+		final long wmi = pack(code, 0, 3);
+		if (wmi < 0) {
+			return null;
+		}
+		if (code.length() >= 14 && code.charAt(2) == SMALL_MANUFACTURER) {
+			final long extension = pack(code, 11, 14);
+			if (extension >= 0) {
+				final WMIManufacturer manufacturer = getSmall(wmi * WMI_SIZE + extension);
+				if (manufacturer != null) {
+					return manufacturer;
+				}
+			}
+		}
+		return manufacturers[(int) wmi];
+	}
+
+}
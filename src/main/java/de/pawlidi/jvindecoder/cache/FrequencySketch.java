@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.cache;
+
+/**
+ * Count-min sketch with 4-bit counters to estimate the access frequency of a
+ * key. The counters of all four hash functions share one table of longs, every
+ * long holds 16 counters. After a sample of ten times the capacity, all
+ * counters are halved, so that the sketch forgets old accesses.
+ * 
+ * <p>
+ * The sketch is not thread-safe.
+ * </p>
+ * 
+ * @author pawlidim
+ *
+ */
+final class FrequencySketch {
+
+	private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L };
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MAX_FREQUENCY = 15;
+
+	private final long[] table;
+	private final int counterMask;
+	private final int sampleSize;
+	private int size;
+
+	/**
+	 * @param capacity
+	 *            the number of keys the cache holds
+	 */
+	FrequencySketch(int capacity) {
+		super();
+		int counters = 64;
+		while (counters < capacity * 4 && counters < (1 << 30)) {
+			counters <<= 1;
+		}
+		table = new long[counters >>> 4];
+		counterMask = counters - 1;
+		sampleSize = Math.max(10 * capacity, 10);
+	}
+
+	/**
+	 * @param hash
+	 *            the spread hash code of the key
+	 * @return the estimated number of accesses, at most 15
+	 */
+	int frequency(int hash) {
+		int frequency = MAX_FREQUENCY;
+		for (int i = 0; i < SEEDS.length; i++) {
+			frequency = Math.min(frequency, counter(indexOf(hash, i)));
+		}
+		return frequency;
+	}
+
+	/**
+	 * Records one access of the key.
+	 * 
+	 * @param hash
+	 *            the spread hash code of the key
+	 */
+	void increment(int hash) {
+		boolean added = false;
+		for (int i = 0; i < SEEDS.length; i++) {
+			final int index = indexOf(hash, i);
+			if (counter(index) < MAX_FREQUENCY) {
+				table[index >>> 4] += 1L << ((index & 15) << 2);
+				added = true;
+			}
+		}
+		if (added && ++size == sampleSize) {
+			reset();
+		}
+	}
+
+	private void reset() {
+		for (int i = 0; i < table.length; i++) {
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		size >>>= 1;
+	}
+
+	private int counter(int index) {
+		return (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xF);
+	}
+
+	private int indexOf(int hash, int i) {
+		long h = (hash + SEEDS[i]) * SEEDS[i];
+		h += h >>> 32;
+		return (int) h & counterMask;
+	}
+}
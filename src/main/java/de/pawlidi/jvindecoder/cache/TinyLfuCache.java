@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.cache;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded cache with W-TinyLFU eviction. New entries are placed in a
+ * small LRU window. Entries leaving the window compete with the eldest entry
+ * of the main area, and only the entry with the higher estimated access
+ * frequency stays. The main area is a segmented LRU with a probation and a
+ * protected part, so entries have to be hit twice to be protected.
+ *
+ * <p>
+ * The cache is split into lock-striped segments, every segment has its own
+ * window, main area and {@link FrequencySketch}. Null keys and values are not
+ * supported.
+ * </p>
+ *
+ * @author pawlidim
+ *
+ * @param <K>
+ *            the key type
+ * @param <V>
+ *            the value type
+ */
+public final class TinyLfuCache<K, V> {
+
+	private static final int MIN_SEGMENT_SIZE = 16;
+
+	/** Defines the minimum size, one window and one main entry */
+	public static final int MIN_SIZE = 2;
+
+	private final Segment<K, V>[] segments;
+	private final int segmentShift;
+	private final int maximumSize;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Default constructor to construct a new cache.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of entries, at least {@link #MIN_SIZE}
+	 */
+	@SuppressWarnings("unchecked")
+	public TinyLfuCache(int maximumSize) {
+		super();
+		if (maximumSize < MIN_SIZE) {
+			throw new IllegalArgumentException("maximumSize must be at least " + MIN_SIZE);
+		}
+		this.maximumSize = maximumSize;
+		final int concurrency = Runtime.getRuntime().availableProcessors() * 4;
+		int count = 1;
+		while (count < concurrency && maximumSize / (count << 1) >= MIN_SEGMENT_SIZE) {
+			count <<= 1;
+		}
+		segments = (Segment<K, V>[]) new Segment<?, ?>[count];
+		for (int i = 0; i < count; i++) {
+			segments[i] = new Segment<K, V>(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+		}
+		segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+	}
+
+	private static int spread(Object key) {
+		final int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private Segment<K, V> segmentFor(int hash) {
+		return segmentShift == 32 ? segments[0] : segments[hash >>> segmentShift];
+	}
+
+	/**
+	 * Returns the cached value of the key and records the access.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the value or null if not cached
+	 */
+	public V get(K key) {
+		final int hash = spread(key);
+		final V value = segmentFor(hash).get(key, hash);
+		if (value == null) {
+			misses.increment();
+		} else {
+			hits.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Adds the value to the cache. The entry may be rejected immediately, if it
+	 * is accessed less frequently than the entries in the cache.
+	 *
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 */
+	public void put(K key, V value) {
+		if (value == null) {
+			throw new NullPointerException("value must not be null");
+		}
+		final int hash = spread(key);
+		if (segmentFor(hash).put(key, value, hash)) {
+			evictions.increment();
+		}
+	}
+
+	/**
+	 * Removes all entries, the counters are not reset.
+	 */
+	public void clear() {
+		for (Segment<K, V> segment : segments) {
+			segment.clear();
+		}
+	}
+
+	/**
+	 * @return the number of cached entries
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * @return the maximum number of entries
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return the number of lookups which returned a cached value
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of lookups which returned null
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of entries removed or rejected because of the size
+	 *         limit
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return the ratio of hits to all lookups, 0 if there was no lookup
+	 */
+	public double getHitRate() {
+		final long hitCount = hits.sum();
+		final long requests = hitCount + misses.sum();
+		return requests == 0 ? 0 : (double) hitCount / requests;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "TinyLfuCache<size=" + size() + "|hits=" + getHitCount() + "|misses=" + getMissCount()
+				+ "|evictions=" + getEvictionCount() + ">";
+	}
+
+	/**
+	 * One lock-striped part of the cache. All maps use access order, so the
+	 * first entry is always the least recently used one.
+	 */
+	private static final class Segment<K, V> {
+
+		private final LinkedHashMap<K, V> window = new LinkedHashMap<K, V>(16, 0.75f, true);
+		private final LinkedHashMap<K, V> probation = new LinkedHashMap<K, V>(16, 0.75f, true);
+		private final LinkedHashMap<K, V> protectedArea = new LinkedHashMap<K, V>(16, 0.75f, true);
+		private final FrequencySketch sketch;
+		private final int windowSize;
+		private final int mainSize;
+		private final int protectedSize;
+
+		Segment(int capacity) {
+			super();
+			windowSize = Math.max(1, capacity / 100);
+			mainSize = Math.max(0, capacity - windowSize);
+			protectedSize = mainSize * 4 / 5;
+			sketch = new FrequencySketch(capacity);
+		}
+
+		synchronized V get(K key, int hash) {
+			sketch.increment(hash);
+			V value = window.get(key);
+			if (value != null) {
+				return value;
+			}
+			value = protectedArea.get(key);
+			if (value != null) {
+				return value;
+			}
+			value = probation.remove(key);
+			if (value != null) {
+				protect(key, value);
+			}
+			return value;
+		}
+
+		/**
+		 * @return true, if an entry was evicted
+		 */
+		synchronized boolean put(K key, V value, int hash) {
+			if (window.containsKey(key)) {
+				window.put(key, value);
+				return false;
+			}
+			if (protectedArea.containsKey(key)) {
+				protectedArea.put(key, value);
+				return false;
+			}
+			if (probation.remove(key) != null) {
+				protect(key, value);
+				return false;
+			}
+			sketch.increment(hash);
+			window.put(key, value);
+			if (window.size() <= windowSize) {
+				return false;
+			}
+			final Map.Entry<K, V> candidate = removeEldest(window);
+			if (probation.size() + protectedArea.size() < mainSize) {
+				probation.put(candidate.getKey(), candidate.getValue());
+				return false;
+			}
+			final LinkedHashMap<K, V> victims = probation.isEmpty() ? protectedArea : probation;
+			final K victim = victims.keySet().iterator().next();
+			if (sketch.frequency(spread(candidate.getKey())) > sketch.frequency(spread(victim))) {
+				victims.remove(victim);
+				probation.put(candidate.getKey(), candidate.getValue());
+			}
+			return true;
+		}
+
+		private void protect(K key, V value) {
+			protectedArea.put(key, value);
+			if (protectedArea.size() > protectedSize) {
+				final Map.Entry<K, V> demoted = removeEldest(protectedArea);
+				probation.put(demoted.getKey(), demoted.getValue());
+			}
+		}
+
+		private static <K, V> Map.Entry<K, V> removeEldest(LinkedHashMap<K, V> map) {
+			final Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+			final Map.Entry<K, V> eldest = iterator.next();
+			final Map.Entry<K, V> copy = new AbstractMap.SimpleImmutableEntry<K, V>(eldest);
+			iterator.remove();
+			return copy;
+		}
+
+		synchronized void clear() {
+			window.clear();
+			probation.clear();
+			protectedArea.clear();
+		}
+
+		synchronized int size() {
+			return window.size() + probation.size() + protectedArea.size();
+		}
+	}
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.j256.ormlite.dao.BaseDaoImpl;
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.jdbc.JdbcDatabaseConnection;
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.table.DatabaseTableConfig;
+import com.j256.ormlite.table.TableInfo;
+
+import de.pawlidi.jvindecoder.jfr.DecoderEvents;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+import de.pawlidi.utils.log.ILog;
+import de.pawlidi.utils.log.Logging;
+
+/**
+ * Bulk import of reference data. Every import runs in one transaction and is
+ * rolled back completely if a row could not be read or inserted. The rows are
+ * streamed from the source, there is no logging per row.
+ * 
+ * <p>
+ * The rows are inserted with one prepared statement, which is sent to the
+ * database in jdbc batches of {@link #BATCH_SIZE} rows. Generated ids are
+ * assigned by the loader before the insert, so the inserted objects can be
+ * referenced by other rows right away. The loader must therefore be the only
+ * writer of the tables during an import.
+ * </p>
+ * 
+ * <p>
+ * The sources are delimiter separated, e.g. with {@link #CSV} or {@link #TSV},
+ * and contain the columns:
+ * </p>
+ * <ul>
+ * <li>regions: name, wmi regex</li>
+ * <li>countries: name, prefix regex, suffix regex</li>
+ * <li>manufacturers: wmi code, name, description (optional)</li>
+ * </ul>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class BulkLoader {
+
+	/** Defines the delimiter of comma separated sources */
+	public static final char CSV = ',';
+	/** Defines the delimiter of tab separated sources */
+	public static final char TSV = '\t';
+	/** Defines the number of rows sent to the database in one jdbc batch */
+	public static final int BATCH_SIZE = 1000;
+
+	private static final ILog log = Logging.getLog(BulkLoader.class);
+
+	private final ConnectionSource connection;
+
+	/**
+	 * Default constructor to construct the loader.
+	 * 
+	 * @param connection
+	 *            the writable connection
+	 */
+	BulkLoader(ConnectionSource connection) {
+		super();
+		this.connection = connection;
+	}
+
+	/**
+	 * Imports the wmi regions of the given source.
+	 * 
+	 * @param reader
+	 *            the source, not closed by this method
+	 * @param delimiter
+	 *            the field delimiter
+	 * @return the number of imported regions
+	 * @throws SQLException
+	 *             if a row could not be inserted
+	 * @throws IOException
+	 *             if the source could not be read or contains an invalid row
+	 */
+	public long importRegions(Reader reader, char delimiter) throws SQLException, IOException {
+		return load(WMIRegion.class, new DelimitedReader(reader, delimiter),
+				new RowMapper<WMIRegion>() {
+					@Override
+					public WMIRegion map(String[] row) {
+						return row.length < 2 ? null : new WMIRegion(row[0], row[1]);
+					}
+				});
+	}
+
+	/**
+	 * Imports the wmi countries of the given source.
+	 * 
+	 * @param reader
+	 *            the source, not closed by this method
+	 * @param delimiter
+	 *            the field delimiter
+	 * @return the number of imported countries
+	 * @throws SQLException
+	 *             if a row could not be inserted
+	 * @throws IOException
+	 *             if the source could not be read or contains an invalid row
+	 */
+	public long importCountries(Reader reader, char delimiter) throws SQLException, IOException {
+		return load(WMICountry.class, new DelimitedReader(reader, delimiter),
+				new RowMapper<WMICountry>() {
+					@Override
+					public WMICountry map(String[] row) {
+						return row.length < 3 ? null : new WMICountry(row[0], row[1], row[2]);
+					}
+				});
+	}
+
+	/**
+	 * Imports the wmi manufacturers of the given source.
+	 * 
+	 * @param reader
+	 *            the source, not closed by this method
+	 * @param delimiter
+	 *            the field delimiter
+	 * @return the number of imported manufacturers
+	 * @throws SQLException
+	 *             if a row could not be inserted
+	 * @throws IOException
+	 *             if the source could not be read or contains an invalid row
+	 */
+	public long importManufacturers(Reader reader, char delimiter) throws SQLException, IOException {
+		return load(WMIManufacturer.class, new DelimitedReader(reader, delimiter),
+				new RowMapper<WMIManufacturer>() {
+					@Override
+					public WMIManufacturer map(String[] row) {
+						if (row.length < 2 || (row[0].length() != 3 && row[0].length() != 6)) {
+							return null;
+						}
+						return new WMIManufacturer(row[1], row.length > 2 ? row[2] : null, row[0]);
+					}
+				});
+	}
+
+	/**
+	 * Inserts all given rows in one transaction.
+	 * 
+	 * @param type
+	 *            the model class
+	 * @param rows
+	 *            the rows to insert
+	 * @return the number of inserted rows
+	 * @throws SQLException
+	 *             if a row could not be inserted
+	 */
+	public <T> long createAll(Class<T> type, final Iterable<? extends T> rows) throws SQLException {
+		if (rows == null) {
+			return 0;
+		}
+		final Dao<T, ?> dao = DaoManager.createDao(connection, type);
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			return TransactionManager.callInTransaction(connection, new Callable<Long>() {
+				@Override
+				public Long call() throws SQLException {
+					final BatchInsert<T> insert = new BatchInsert<T>(connection, dao);
+					try {
+						for (T row : rows) {
+							insert.add(row);
+						}
+						return insert.finish();
+					} finally {
+						insert.close();
+					}
+				}
+			});
+		} finally {
+			DecoderEvents.commitQuery(event, DatabaseTableConfig.extractTableName(type), "createAll", false);
+		}
+	}
+
+	private <T> long load(Class<T> type, final DelimitedReader reader, final RowMapper<T> mapper)
+			throws SQLException, IOException {
+		final Dao<T, ?> dao = DaoManager.createDao(connection, type);
+		final String table = DatabaseTableConfig.extractTableName(type);
+		final long start = System.currentTimeMillis();
+		final Object event = DecoderEvents.beginQuery();
+		final long count;
+		try {
+			count = TransactionManager.callInTransaction(connection, new Callable<Long>() {
+				@Override
+				public Long call() throws SQLException, IOException {
+					final BatchInsert<T> insert = new BatchInsert<T>(connection, dao);
+					try {
+						for (String[] row = reader.next(); row != null; row = reader.next()) {
+							final T model = mapper.map(row);
+							if (model == null) {
+								throw new IOException("Invalid row in line " + reader.getLine());
+							}
+							insert.add(model);
+						}
+						return insert.finish();
+					} finally {
+						insert.close();
+					}
+				}
+			});
+		} catch (SQLException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw e;
+		} finally {
+			DecoderEvents.commitQuery(event, table, "import", false);
+		}
+		log.info("Import {0} rows into {1} in {2} ms", count, table, System.currentTimeMillis() - start);
+		return count;
+	}
+
+	/**
+	 * Maps the fields of a row to a model object.
+	 */
+	private interface RowMapper<T> {
+
+		/**
+		 * @return the model object or null if the row is invalid
+		 */
+		T map(String[] row);
+	}
+
+	/**
+	 * Prepared insert of one table, which is executed in jdbc batches. Rows
+	 * are created one by one by the dao, if the connection is no jdbc
+	 * connection.
+	 */
+	private static final class BatchInsert<T> {
+
+		private final ConnectionSource connection;
+		private final Dao<T, ?> dao;
+		private final DatabaseConnection database;
+		private final List<FieldType> fields = new ArrayList<FieldType>();
+		private final PreparedStatement statement;
+		private FieldType generatedId;
+		private long lastId;
+		private int pending;
+		private long count;
+
+		BatchInsert(ConnectionSource connection, Dao<T, ?> dao) throws SQLException {
+			super();
+			this.connection = connection;
+			this.dao = dao;
+			final TableInfo<T, ?> info = ((BaseDaoImpl<T, ?>) dao).getTableInfo();
+			final DatabaseType databaseType = connection.getDatabaseType();
+			final StringBuilder sql = new StringBuilder("INSERT INTO ");
+			databaseType.appendEscapedEntityName(sql, info.getTableName());
+			final StringBuilder values = new StringBuilder();
+			for (FieldType field : info.getFieldTypes()) {
+				if (field.isForeignCollection()) {
+					continue;
+				}
+				if (field.isGeneratedId()) {
+					generatedId = field;
+				}
+				sql.append(fields.isEmpty() ? " (" : ", ");
+				databaseType.appendEscapedEntityName(sql, field.getColumnName());
+				values.append(fields.isEmpty() ? "?" : ", ?");
+				fields.add(field);
+			}
+			sql.append(") VALUES (").append(values).append(')');
+
+			database = connection.getReadWriteConnection(info.getTableName());
+			if (database instanceof JdbcDatabaseConnection) {
+				statement = ((JdbcDatabaseConnection) database).getInternalConnection()
+						.prepareStatement(sql.toString());
+				if (generatedId != null) {
+					final StringBuilder max = new StringBuilder("SELECT COALESCE(MAX(");
+					databaseType.appendEscapedEntityName(max, generatedId.getColumnName());
+					max.append("), 0) FROM ");
+					databaseType.appendEscapedEntityName(max, info.getTableName());
+					lastId = database.queryForLong(max.toString());
+				}
+			} else {
+				statement = null;
+			}
+		}
+
+		void add(T row) throws SQLException {
+			if (statement == null) {
+				count += dao.create(row);
+				return;
+			}
+			if (generatedId != null) {
+				final Object id = generatedId.extractJavaFieldValue(row);
+				if (id == null || ((Number) id).longValue() == 0) {
+					lastId++;
+					generatedId.assignField(row, generatedId.getDataPersister().convertIdNumber(lastId), false,
+							null);
+				} else {
+					lastId = Math.max(lastId, ((Number) id).longValue());
+				}
+			}
+			for (int i = 0; i < fields.size(); i++) {
+				statement.setObject(i + 1, fields.get(i).extractJavaFieldToSqlArgValue(row));
+			}
+			statement.addBatch();
+			if (++pending == BATCH_SIZE) {
+				flush();
+			}
+		}
+
+		private void flush() throws SQLException {
+			for (int updated : statement.executeBatch()) {
+				// drivers may only report that the row was inserted
+				count += updated == PreparedStatement.SUCCESS_NO_INFO ? 1 : updated;
+			}
+			pending = 0;
+		}
+
+		/**
+		 * @return the number of inserted rows
+		 */
+		long finish() throws SQLException {
+			if (pending > 0) {
+				flush();
+			}
+			return count;
+		}
+
+		void close() throws SQLException {
+			try {
+				if (statement != null) {
+					statement.close();
+				}
+			} finally {
+				connection.releaseConnection(database);
+			}
+		}
+	}
+}
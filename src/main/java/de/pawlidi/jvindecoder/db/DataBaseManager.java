@@ -6,14 +6,20 @@ package de.pawlidi.jvindecoder.db;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
-import com.j256.ormlite.dao.Dao;
-import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.jdbc.JdbcConnectionSource;
-import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
 
+import de.pawlidi.jvindecoder.metrics.DecodeStage;
+import de.pawlidi.jvindecoder.metrics.DecoderMetrics;
 import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
 import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
 import de.pawlidi.jvindecoder.model.WMICountry;
@@ -25,6 +31,9 @@ import de.pawlidi.utils.log.Logging;
 //https://github.com/h2database/h2database/blob/master/h2/src/test/org/h2/samples/ReadOnlyDatabaseInZip.java
 public final class DataBaseManager {
 
+	/** Defines the system property to start in read-only in-memory mode */
+	public static final String IN_MEMORY_PROPERTY = "jvindecoder.inMemory";
+
 	private volatile static DataBaseManager instance;
 
 	private static final ILog log = Logging.getLog(DataBaseManager.class);
@@ -34,18 +43,22 @@ public final class DataBaseManager {
 	private WMICountryManager countryManager;
 	private WMIManufacturerManager manufacturerManager;
 
-	private Dao<VehicleDescriptorSection, String> vdsDao;
-	private QueryBuilder<VehicleDescriptorSection, String> vdsQueryBuilder;
-
-	private Dao<VehicleIndicatorSection, String> visDao;
-	private QueryBuilder<VehicleIndicatorSection, String> visQueryBuilder;
+	private final AtomicReference<ReferenceData> referenceData = new AtomicReference<ReferenceData>();
+	private final ExecutorService reloader = Executors.newSingleThreadExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "jvindecoder-reload");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private volatile boolean inMemory;
 
 	/**
 	 * Invisible default constructor to construct the database manager.
 	 */
 	private DataBaseManager() {
 		super();
+		final long start = DecoderMetrics.start();
 		setup();
+		DecoderMetrics.record(DecodeStage.DATABASE_INIT, start);
 	}
 
 	/**
@@ -83,6 +96,10 @@ public final class DataBaseManager {
 
 		setupDBAccess();
 
+		if (Boolean.getBoolean(IN_MEMORY_PROPERTY)) {
+			enableInMemoryMode();
+		}
+
 		// https://stackoverflow.com/questions/7254967/ormlite-with-persistent-h2-db-new-tables-not-get-persisted
 		// http://ormlite.com/javadoc/ormlite-core/doc-files/ormlite_1.html#Getting-Started
 
@@ -93,11 +110,6 @@ public final class DataBaseManager {
 			countryManager = new WMICountryManager(connection);
 			manufacturerManager = new WMIManufacturerManager(connection);
 			regionManager = new WMIRegionManager(connection);
-
-			vdsDao = DaoManager.createDao(connection, VehicleDescriptorSection.class);
-			vdsQueryBuilder = vdsDao.queryBuilder();
-			visDao = DaoManager.createDao(connection, VehicleIndicatorSection.class);
-			visQueryBuilder = visDao.queryBuilder();
 		} catch (SQLException e) {
 			log.error("Could not initialize daos {0}", e, e.getMessage());
 			throw new RuntimeException("Could not start application without database configuration!");
@@ -111,133 +123,278 @@ public final class DataBaseManager {
 		TableUtils.createTable(connection, WMIManufacturer.class);
 		TableUtils.createTable(connection, VehicleDescriptorSection.class);
 		TableUtils.createTable(connection, VehicleIndicatorSection.class);
+		SchemaMigration.migrate(connection);
 		connection.close();
 	}
 
 	void insertWMIRegion(final String path) throws SQLException, IOException {
 		connection = new JdbcConnectionSource("jdbc:h2:file:" + path + ";USER=decoder");
 		setupDBAccess();
-		regionManager.create(new WMIRegion("Africa", "[A-H]"));
-		regionManager.create(new WMIRegion("Asia", "[J-R]"));
-		regionManager.create(new WMIRegion("Europe", "[S-Z]"));
-		regionManager.create(new WMIRegion("North America", "[1-5]"));
-		regionManager.create(new WMIRegion("Oceania", "[6-7]"));
-		regionManager.create(new WMIRegion("South America", "[890]"));
+		new BulkLoader(connection).createAll(WMIRegion.class, Arrays.asList(new WMIRegion("Africa", "[A-H]"),
+				new WMIRegion("Asia", "[J-R]"),
+				new WMIRegion("Europe", "[S-Z]"),
+				new WMIRegion("North America", "[1-5]"),
+				new WMIRegion("Oceania", "[6-7]"),
+				new WMIRegion("South America", "[890]")));
 		connection.close();
 	}
 
 	void insertWMICountry(final String path) throws SQLException, IOException {
 		connection = new JdbcConnectionSource("jdbc:h2:file:" + path + ";USER=decoder");
 		setupDBAccess();
-		countryManager.create(new WMICountry("SouthAfrica", "[A]", "[A-H]"));
-		countryManager.create(new WMICountry("South Africa", "[A]", "[A-H]"));
-		countryManager.create(new WMICountry("Ivory Coast", "[A]", "[J-N]"));
-		countryManager.create(new WMICountry("Africa", "[A]", "[P-Z0-9]"));
-		countryManager.create(new WMICountry("Africa", "[B-D]", "[S-Z0-9]"));
-		countryManager.create(new WMICountry("Africa", "[E-F]", "[L-Z0-9]"));
-		countryManager.create(new WMICountry("Africa", "[G-H]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("Angola", "[B]", "[A-E]"));
-		countryManager.create(new WMICountry("Kenya", "[B]", "[F-K]"));
-		countryManager.create(new WMICountry("Tanzania", "[B]", "[L-R]"));
-		countryManager.create(new WMICountry("Benin", "[C]", "[A-E]"));
-		countryManager.create(new WMICountry("Madagascar", "[C]", "[F-K]"));
-		countryManager.create(new WMICountry("Tunisia", "[C]", "[L-R]"));
-		countryManager.create(new WMICountry("Egypt", "[D]", "[A-E]"));
-		countryManager.create(new WMICountry("Morocco", "[D]", "[F-H]"));
-		countryManager.create(new WMICountry("Zambia", "[D]", "[L-R]"));
-		countryManager.create(new WMICountry("Ghana", "[E]", "[A-E]"));
-		countryManager.create(new WMICountry("Mozambique", "[E]", "[F-H]"));
-		countryManager.create(new WMICountry("India", "[F]", "[A-E]"));
-		countryManager.create(new WMICountry("India", "[M]", "[A-E]"));
-		countryManager.create(new WMICountry("Nigeria", "[F]", "[F-K]"));
-		countryManager.create(new WMICountry("Japan", "[A]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("Sri Lanka", "[A]", "[A-E]"));
-		countryManager.create(new WMICountry("Israel", "[K]", "[F-K]"));
-		countryManager.create(new WMICountry("South Korea", "[K]", "[L-R]"));
-		countryManager.create(new WMICountry("Kazakhstan", "[K]", "[S-Z0-9]"));
-		countryManager.create(new WMICountry("China", "[L]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("Indonesia", "[M]", "[F-K]"));
-		countryManager.create(new WMICountry("Thailand", "[M]", "[L-R]"));
-		countryManager.create(new WMICountry("Iran", "[N]", "[A-E]"));
-		countryManager.create(new WMICountry("Pakistan", "[N]", "[F-K]"));
-		countryManager.create(new WMICountry("Turkey", "[N]", "[L-R]"));
-		countryManager.create(new WMICountry("Pakistan", "[N]", "[F-K]"));
-		countryManager.create(new WMICountry("Asia", "[M-P]", "[S-Z0-9]"));
-		countryManager.create(new WMICountry("Philippines", "[P]", "[A-E]"));
-		countryManager.create(new WMICountry("Singapore", "[P]", "[F-K]"));
-		countryManager.create(new WMICountry("Malaysia", "[N]", "[L-R]"));
-		countryManager.create(new WMICountry("UAE", "[P]", "[A-E]"));
-		countryManager.create(new WMICountry("Taiwan", "[R]", "[F-K]"));
-		countryManager.create(new WMICountry("Vietnam", "[R]", "[L-R]"));
-		countryManager.create(new WMICountry("Saudi Arabia", "[R]", "[S-Z0-9]"));
-		countryManager.create(new WMICountry("United Kingdom", "[S]", "[A-M]"));
-		countryManager.create(new WMICountry("East Germany", "[S]", "[N-T]"));
-		countryManager.create(new WMICountry("Poland", "[S]", "[U-Z]"));
-		countryManager.create(new WMICountry("Latvia", "[S]", "[1-4]"));
-		countryManager.create(new WMICountry("Europe", "[S]", "[5-90]"));
-		countryManager.create(new WMICountry("Europe", "[T]", "[2-90]"));
-		countryManager.create(new WMICountry("Europe", "[U]", "[A-G]"));
-		countryManager.create(new WMICountry("Europe", "[U]", "[1-4]"));
-		countryManager.create(new WMICountry("Europe", "[U]", "[8-90]"));
-		countryManager.create(new WMICountry("Europe", "[Z]", "[S-W]"));
-		countryManager.create(new WMICountry("Europe", "[Z]", "[6-90]"));
-		countryManager.create(new WMICountry("Switzerland", "[T]", "[A-H]"));
-		countryManager.create(new WMICountry("Czech Republic", "[T]", "[J-P]"));
-		countryManager.create(new WMICountry("Hungary", "[T]", "[R-V]"));
-		countryManager.create(new WMICountry("Portugal", "[T]", "[W-Z1]"));
-		countryManager.create(new WMICountry("Denmark", "[U]", "[H-M]"));
-		countryManager.create(new WMICountry("Ireland", "[U]", "[N-T]"));
-		countryManager.create(new WMICountry("Romania", "[U]", "[U-Z]"));
-		countryManager.create(new WMICountry("Slovakia", "[U]", "[5-7]"));
-		countryManager.create(new WMICountry("Austria", "[V]", "[A-E]"));
-		countryManager.create(new WMICountry("France", "[V]", "[F-R]"));
-		countryManager.create(new WMICountry("Spain", "[V]", "[S-W]"));
-		countryManager.create(new WMICountry("Serbia", "[V]", "[X-Z1-2]"));
-		countryManager.create(new WMICountry("Croatia", "[V]", "[3-5]"));
-		countryManager.create(new WMICountry("Estonia", "[V]", "[6-90]"));
-		countryManager.create(new WMICountry("Germany", "[W]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("Bulgaria", "[X]", "[A-E]"));
-		countryManager.create(new WMICountry("Greece", "[X]", "[F-K]"));
-		countryManager.create(new WMICountry("Netherlands", "[X]", "[L-R]"));
-		countryManager.create(new WMICountry("USSR", "[X]", "[S-W]"));
-		countryManager.create(new WMICountry("Luxembourg", "[X]", "[X-Z1-2]"));
-		countryManager.create(new WMICountry("Russia", "[X]", "[3-90]"));
-		countryManager.create(new WMICountry("Belgium", "[Y]", "[A-E]"));
-		countryManager.create(new WMICountry("Finland", "[Y]", "[F-K]"));
-		countryManager.create(new WMICountry("Malta", "[Y]", "[L-R]"));
-		countryManager.create(new WMICountry("Sweden", "[Y]", "[S-W]"));
-		countryManager.create(new WMICountry("Norway", "[Y]", "[X-Z1-2]"));
-		countryManager.create(new WMICountry("Belarus", "[Y]", "[3-5]"));
-		countryManager.create(new WMICountry("Ukraine", "[Y]", "[6-90]"));
-		countryManager.create(new WMICountry("Italy", "[Y]", "[A-R]"));
-		countryManager.create(new WMICountry("Slovenia", "[Z]", "[X-Z1-2]"));
-		countryManager.create(new WMICountry("Lithuania", "[Z]", "[3-5]"));
-		countryManager.create(new WMICountry("United States", "[1]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("United States", "[4]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("United States", "[5]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("Canada", "[2]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("Mexico", "[3]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("Australia", "[6]", "[A-W]"));
-		countryManager.create(new WMICountry("Oceania", "[6]", "[X-Z0-9]"));
-		countryManager.create(new WMICountry("Oceania", "[7]", "[F-Z0-9]"));
-		countryManager.create(new WMICountry("New Zealand", "[7]", "[A-E]"));
-		countryManager.create(new WMICountry("Argentina", "[8]", "[A-E]"));
-		countryManager.create(new WMICountry("Chile", "[8]", "[F-K]"));
-		countryManager.create(new WMICountry("Ecuador", "[8]", "[L-R]"));
-		countryManager.create(new WMICountry("Peru", "[8]", "[S-W]"));
-		countryManager.create(new WMICountry("Venezuela", "[8]", "[X-Z1-2]"));
-		countryManager.create(new WMICountry("South America", "[8]", "[2-90]"));
-		countryManager.create(new WMICountry("South America", "[9]", "[0]"));
-		countryManager.create(new WMICountry("South America", "[0]", "[A-Z0-9]"));
-		countryManager.create(new WMICountry("Brazil", "[9]", "[A-E]"));
-		countryManager.create(new WMICountry("Brazil", "[9]", "[3-9]"));
-		countryManager.create(new WMICountry("Colombia", "[9]", "[F-K]"));
-		countryManager.create(new WMICountry("Paraguay", "[9]", "[L-R]"));
-		countryManager.create(new WMICountry("Uruguay", "[9]", "[S-W]"));
-		countryManager.create(new WMICountry("Trinidad Tobago", "[9]", "[X-Z1-2]"));
+		new BulkLoader(connection).createAll(WMICountry.class, Arrays.asList(new WMICountry("SouthAfrica", "[A]", "[A-H]"),
+				new WMICountry("South Africa", "[A]", "[A-H]"),
+				new WMICountry("Ivory Coast", "[A]", "[J-N]"),
+				new WMICountry("Africa", "[A]", "[P-Z0-9]"),
+				new WMICountry("Africa", "[B-D]", "[S-Z0-9]"),
+				new WMICountry("Africa", "[E-F]", "[L-Z0-9]"),
+				new WMICountry("Africa", "[G-H]", "[A-Z0-9]"),
+				new WMICountry("Angola", "[B]", "[A-E]"),
+				new WMICountry("Kenya", "[B]", "[F-K]"),
+				new WMICountry("Tanzania", "[B]", "[L-R]"),
+				new WMICountry("Benin", "[C]", "[A-E]"),
+				new WMICountry("Madagascar", "[C]", "[F-K]"),
+				new WMICountry("Tunisia", "[C]", "[L-R]"),
+				new WMICountry("Egypt", "[D]", "[A-E]"),
+				new WMICountry("Morocco", "[D]", "[F-H]"),
+				new WMICountry("Zambia", "[D]", "[L-R]"),
+				new WMICountry("Ghana", "[E]", "[A-E]"),
+				new WMICountry("Mozambique", "[E]", "[F-H]"),
+				new WMICountry("India", "[F]", "[A-E]"),
+				new WMICountry("India", "[M]", "[A-E]"),
+				new WMICountry("Nigeria", "[F]", "[F-K]"),
+				new WMICountry("Japan", "[A]", "[A-Z0-9]"),
+				new WMICountry("Sri Lanka", "[A]", "[A-E]"),
+				new WMICountry("Israel", "[K]", "[F-K]"),
+				new WMICountry("South Korea", "[K]", "[L-R]"),
+				new WMICountry("Kazakhstan", "[K]", "[S-Z0-9]"),
+				new WMICountry("China", "[L]", "[A-Z0-9]"),
+				new WMICountry("Indonesia", "[M]", "[F-K]"),
+				new WMICountry("Thailand", "[M]", "[L-R]"),
+				new WMICountry("Iran", "[N]", "[A-E]"),
+				new WMICountry("Pakistan", "[N]", "[F-K]"),
+				new WMICountry("Turkey", "[N]", "[L-R]"),
+				new WMICountry("Pakistan", "[N]", "[F-K]"),
+				new WMICountry("Asia", "[M-P]", "[S-Z0-9]"),
+				new WMICountry("Philippines", "[P]", "[A-E]"),
+				new WMICountry("Singapore", "[P]", "[F-K]"),
+				new WMICountry("Malaysia", "[N]", "[L-R]"),
+				new WMICountry("UAE", "[P]", "[A-E]"),
+				new WMICountry("Taiwan", "[R]", "[F-K]"),
+				new WMICountry("Vietnam", "[R]", "[L-R]"),
+				new WMICountry("Saudi Arabia", "[R]", "[S-Z0-9]"),
+				new WMICountry("United Kingdom", "[S]", "[A-M]"),
+				new WMICountry("East Germany", "[S]", "[N-T]"),
+				new WMICountry("Poland", "[S]", "[U-Z]"),
+				new WMICountry("Latvia", "[S]", "[1-4]"),
+				new WMICountry("Europe", "[S]", "[5-90]"),
+				new WMICountry("Europe", "[T]", "[2-90]"),
+				new WMICountry("Europe", "[U]", "[A-G]"),
+				new WMICountry("Europe", "[U]", "[1-4]"),
+				new WMICountry("Europe", "[U]", "[8-90]"),
+				new WMICountry("Europe", "[Z]", "[S-W]"),
+				new WMICountry("Europe", "[Z]", "[6-90]"),
+				new WMICountry("Switzerland", "[T]", "[A-H]"),
+				new WMICountry("Czech Republic", "[T]", "[J-P]"),
+				new WMICountry("Hungary", "[T]", "[R-V]"),
+				new WMICountry("Portugal", "[T]", "[W-Z1]"),
+				new WMICountry("Denmark", "[U]", "[H-M]"),
+				new WMICountry("Ireland", "[U]", "[N-T]"),
+				new WMICountry("Romania", "[U]", "[U-Z]"),
+				new WMICountry("Slovakia", "[U]", "[5-7]"),
+				new WMICountry("Austria", "[V]", "[A-E]"),
+				new WMICountry("France", "[V]", "[F-R]"),
+				new WMICountry("Spain", "[V]", "[S-W]"),
+				new WMICountry("Serbia", "[V]", "[X-Z1-2]"),
+				new WMICountry("Croatia", "[V]", "[3-5]"),
+				new WMICountry("Estonia", "[V]", "[6-90]"),
+				new WMICountry("Germany", "[W]", "[A-Z0-9]"),
+				new WMICountry("Bulgaria", "[X]", "[A-E]"),
+				new WMICountry("Greece", "[X]", "[F-K]"),
+				new WMICountry("Netherlands", "[X]", "[L-R]"),
+				new WMICountry("USSR", "[X]", "[S-W]"),
+				new WMICountry("Luxembourg", "[X]", "[X-Z1-2]"),
+				new WMICountry("Russia", "[X]", "[3-90]"),
+				new WMICountry("Belgium", "[Y]", "[A-E]"),
+				new WMICountry("Finland", "[Y]", "[F-K]"),
+				new WMICountry("Malta", "[Y]", "[L-R]"),
+				new WMICountry("Sweden", "[Y]", "[S-W]"),
+				new WMICountry("Norway", "[Y]", "[X-Z1-2]"),
+				new WMICountry("Belarus", "[Y]", "[3-5]"),
+				new WMICountry("Ukraine", "[Y]", "[6-90]"),
+				new WMICountry("Italy", "[Y]", "[A-R]"),
+				new WMICountry("Slovenia", "[Z]", "[X-Z1-2]"),
+				new WMICountry("Lithuania", "[Z]", "[3-5]"),
+				new WMICountry("United States", "[1]", "[A-Z0-9]"),
+				new WMICountry("United States", "[4]", "[A-Z0-9]"),
+				new WMICountry("United States", "[5]", "[A-Z0-9]"),
+				new WMICountry("Canada", "[2]", "[A-Z0-9]"),
+				new WMICountry("Mexico", "[3]", "[A-Z0-9]"),
+				new WMICountry("Australia", "[6]", "[A-W]"),
+				new WMICountry("Oceania", "[6]", "[X-Z0-9]"),
+				new WMICountry("Oceania", "[7]", "[F-Z0-9]"),
+				new WMICountry("New Zealand", "[7]", "[A-E]"),
+				new WMICountry("Argentina", "[8]", "[A-E]"),
+				new WMICountry("Chile", "[8]", "[F-K]"),
+				new WMICountry("Ecuador", "[8]", "[L-R]"),
+				new WMICountry("Peru", "[8]", "[S-W]"),
+				new WMICountry("Venezuela", "[8]", "[X-Z1-2]"),
+				new WMICountry("South America", "[8]", "[2-90]"),
+				new WMICountry("South America", "[9]", "[0]"),
+				new WMICountry("South America", "[0]", "[A-Z0-9]"),
+				new WMICountry("Brazil", "[9]", "[A-E]"),
+				new WMICountry("Brazil", "[9]", "[3-9]"),
+				new WMICountry("Colombia", "[9]", "[F-K]"),
+				new WMICountry("Paraguay", "[9]", "[L-R]"),
+				new WMICountry("Uruguay", "[9]", "[S-W]"),
+				new WMICountry("Trinidad Tobago", "[9]", "[X-Z1-2]")));
 		connection.close();
 	}
 
+	/**
+	 * Returns the in-memory reference data. The reference tables are loaded on
+	 * first access.
+	 * 
+	 * @return reference data
+	 */
+	public ReferenceData getReferenceData() {
+		ReferenceData data = referenceData.get();
+		if (data == null) {
+			synchronized (this) {
+				data = referenceData.get();
+				if (data == null) {
+					try {
+						data = loadReferenceData(regionManager, countryManager, manufacturerManager);
+					} catch (SQLException e) {
+						log.error("Could not load reference data - {0}", e.getMessage());
+						data = new ReferenceData(Collections.emptyList(), Collections.emptyList(),
+								Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+					}
+					referenceData.set(data);
+				}
+			}
+		}
+		return data;
+	}
+
+	/**
+	 * Loads the reference data of the given database file and publishes it
+	 * with one atomic swap. Decodes which already hold the old reference data
+	 * finish with it, no decode is blocked. The caches of the decoder belong to
+	 * the reference data and start empty after the swap.
+	 * 
+	 * <p>
+	 * The database must have the current {@link SchemaMigration#VERSION} and
+	 * contain regions, countries and manufacturers. It is only read, no table
+	 * is created. If the database can not be read or is incomplete, the
+	 * current reference data is kept. The connection of the database manager
+	 * is not changed, in database mode the managers keep reading the database
+	 * they were opened with.
+	 * </p>
+	 * 
+	 * @param path
+	 *            the path of the h2 database file, with or without the
+	 *            {@code .mv.db} extension
+	 * @return true, if the reference data was replaced
+	 */
+	public boolean reloadReferenceData(final String path) {
+		final String name = path.endsWith(".mv.db") ? path.substring(0, path.length() - 6) : path;
+		final ReferenceData data;
+		ConnectionSource source = null;
+		try {
+			source = new JdbcConnectionSource("jdbc:h2:file:" + name + ";USER=decoder;IFEXISTS=TRUE");
+			final int version = SchemaMigration.getVersion(source);
+			if (version != SchemaMigration.VERSION) {
+				log.error("Could not reload reference data of schema version {0} from {1}", version, path);
+				return false;
+			}
+			data = loadReferenceData(new WMIRegionManager(source, false), new WMICountryManager(source, false),
+					new WMIManufacturerManager(source, false));
+		} catch (SQLException e) {
+			log.error("Could not reload reference data from {0} - {1}", path, e.getMessage());
+			return false;
+		} finally {
+			if (source != null) {
+				source.closeQuietly();
+			}
+		}
+		if (data.getRegions().isEmpty() || data.getCountries().isEmpty() || data.getManufacturers().isEmpty()) {
+			log.error("Could not reload incomplete reference data from {0}", path);
+			return false;
+		}
+		synchronized (this) {
+			referenceData.set(data);
+			if (inMemory) {
+				regionManager.setReferenceData(data);
+				countryManager.setReferenceData(data);
+				manufacturerManager.setReferenceData(data);
+			}
+		}
+		log.info("Reload reference data from {0}", path);
+		return true;
+	}
+
+	/**
+	 * Reloads the reference data in the background, see
+	 * {@link #reloadReferenceData(String)}. Reloads are executed one after the
+	 * other.
+	 * 
+	 * @param path
+	 *            the path of the h2 database file
+	 * @return completes with true, if the reference data was replaced
+	 */
+	public CompletableFuture<Boolean> reloadReferenceDataAsync(final String path) {
+		return CompletableFuture.supplyAsync(() -> reloadReferenceData(path), reloader);
+	}
+
+	private static ReferenceData loadReferenceData(WMIRegionManager regionManager,
+			WMICountryManager countryManager, WMIManufacturerManager manufacturerManager) throws SQLException {
+		final long start = DecoderMetrics.start();
+		final List<WMIManufacturer> manufacturers = manufacturerManager.queryForAll();
+		// one query per table, the sections reference the loaded manufacturers
+		final List<VehicleDescriptorSection> vdsList = manufacturerManager.getVdsList(manufacturers);
+		final List<VehicleIndicatorSection> visList = manufacturerManager.getVisList(manufacturers);
+		final ReferenceData data = new ReferenceData(regionManager.queryForAll(), countryManager.queryForAll(),
+				manufacturers, vdsList, visList);
+		log.info("Load reference data with {0} regions, {1} countries and {2} manufacturers",
+				data.getRegions().size(), data.getCountries().size(), data.getManufacturers().size());
+		DecoderMetrics.record(DecodeStage.REFERENCE_DATA_LOAD, start);
+		return data;
+	}
+
+	/**
+	 * Loads all reference tables into memory and serves all reads of the
+	 * managers from there. The database is read-only in this mode.
+	 */
+	public synchronized void enableInMemoryMode() {
+		final ReferenceData data = getReferenceData();
+		regionManager.setReferenceData(data);
+		countryManager.setReferenceData(data);
+		manufacturerManager.setReferenceData(data);
+		inMemory = true;
+	}
+
+	/**
+	 * @return true, if all reads are served from memory
+	 */
+	public boolean isInMemoryMode() {
+		return inMemory;
+	}
+
+	/**
+	 * Returns the bulk loader of the reference tables. Rows imported after the
+	 * reference data has been loaded are not part of it.
+	 * 
+	 * @return the bulk loader or null if the database is read-only
+	 */
+	public BulkLoader getBulkLoader() {
+		if (inMemory) {
+			log.error("Could not import reference data in read-only mode");
+			return null;
+		}
+		return new BulkLoader(connection);
+	}
+
 	/**
 	 * @return the regionManager
 	 */
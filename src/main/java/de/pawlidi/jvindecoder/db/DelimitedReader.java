@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader of delimiter separated rows (CSV, TSV). Fields may be
+ * enclosed in double quotes to contain the delimiter, line breaks or escaped
+ * quotes ({@code ""}). Blank lines and lines starting with {@code #} are
+ * skipped.
+ * 
+ * @author pawlidim
+ *
+ */
+final class DelimitedReader implements Closeable {
+
+	private static final int QUOTE = '"';
+	private static final int COMMENT = '#';
+
+	private final BufferedReader reader;
+	private final char delimiter;
+	private final List<String> fields = new ArrayList<String>();
+	private final StringBuilder field = new StringBuilder();
+	private long line;
+	private long rowLine;
+
+	/**
+	 * Default constructor to construct the reader.
+	 * 
+	 * @param reader
+	 *            the source
+	 * @param delimiter
+	 *            the field delimiter
+	 */
+	DelimitedReader(Reader reader, char delimiter) {
+		super();
+		if (delimiter == QUOTE || delimiter == '\r' || delimiter == '\n') {
+			throw new IllegalArgumentException("Invalid delimiter " + delimiter);
+		}
+		this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * Reads the next row.
+	 * 
+	 * @return the trimmed fields of the row or null at the end of the source
+	 * @throws IOException
+	 *             if the source could not be read or a quote is not closed
+	 */
+	String[] next() throws IOException {
+		int c = reader.read();
+		while (c == '\r' || c == '\n' || c == COMMENT) {
+			if (c == COMMENT) {
+				c = skipLine();
+			}
+			if (c == '\n') {
+				line++;
+			}
+			c = c < 0 ? c : reader.read();
+		}
+		if (c < 0) {
+			return null;
+		}
+		rowLine = line + 1;
+		fields.clear();
+		field.setLength(0);
+		boolean quoted = false;
+		while (true) {
+			if (quoted) {
+				if (c < 0) {
+					throw new IOException("Unclosed quote in line " + rowLine);
+				}
+				if (c == QUOTE) {
+					c = reader.read();
+					if (c != QUOTE) {
+						quoted = false;
+						continue;
+					}
+				} else if (c == '\n') {
+					line++;
+				}
+				field.append((char) c);
+			} else if (c < 0 || c == '\n') {
+				line++;
+				fields.add(field.toString().trim());
+				return fields.toArray(new String[fields.size()]);
+			} else if (c == delimiter) {
+				fields.add(field.toString().trim());
+				field.setLength(0);
+			} else if (c == QUOTE && field.toString().trim().isEmpty()) {
+				field.setLength(0);
+				quoted = true;
+			} else if (c != '\r') {
+				field.append((char) c);
+			}
+			c = reader.read();
+		}
+	}
+
+	private int skipLine() throws IOException {
+		int c = reader.read();
+		while (c >= 0 && c != '\n') {
+			c = reader.read();
+		}
+		return c;
+	}
+
+	/**
+	 * @return the line number of the last row read, starting with 1
+	 */
+	long getLine() {
+		return rowLine;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
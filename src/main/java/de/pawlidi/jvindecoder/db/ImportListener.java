@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+/**
+ * Receives the progress of a {@link ReferenceDataImporter}. The listener is
+ * called by the insert threads after every committed batch.
+ * 
+ * @author pawlidim
+ *
+ */
+public interface ImportListener {
+
+	/**
+	 * Called after a batch has been committed.
+	 * 
+	 * @param checkpoint
+	 *            the source line up to which all rows are committed
+	 * @param inserted
+	 *            the number of rows inserted so far
+	 * @param rejected
+	 *            the number of invalid rows so far
+	 */
+	void progress(long checkpoint, long inserted, long rejected);
+}
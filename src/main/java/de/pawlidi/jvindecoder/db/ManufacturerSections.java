@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import java.util.Collections;
+import java.util.List;
+
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+
+/**
+ * A manufacturer together with all its vds and vis rows, loaded without
+ * touching the lazy foreign collections of the manufacturer.
+ * 
+ * @author pawlidim
+ *
+ */
+public final class ManufacturerSections {
+
+	private final WMIManufacturer manufacturer;
+	private final List<VehicleDescriptorSection> vdsList;
+	private final List<VehicleIndicatorSection> visList;
+
+	/**
+	 * Default constructor to construct the sections of a manufacturer.
+	 * 
+	 * @param manufacturer
+	 * @param vdsList
+	 * @param visList
+	 */
+	public ManufacturerSections(WMIManufacturer manufacturer, List<VehicleDescriptorSection> vdsList,
+			List<VehicleIndicatorSection> visList) {
+		super();
+		this.manufacturer = manufacturer;
+		this.vdsList = Collections.unmodifiableList(vdsList);
+		this.visList = Collections.unmodifiableList(visList);
+	}
+
+	/**
+	 * @return the manufacturer
+	 */
+	public WMIManufacturer getManufacturer() {
+		return manufacturer;
+	}
+
+	/**
+	 * @return all vds rows of the manufacturer
+	 */
+	public List<VehicleDescriptorSection> getVdsList() {
+		return vdsList;
+	}
+
+	/**
+	 * @return all vis rows of the manufacturer
+	 */
+	public List<VehicleIndicatorSection> getVisList() {
+		return visList;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ManufacturerSections<manufacturer=" + manufacturer + "|vds=" + vdsList.size() + "|vis="
+				+ visList.size() + ">";
+	}
+}
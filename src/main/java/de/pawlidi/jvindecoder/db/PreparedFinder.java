@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.PreparedQuery;
+import com.j256.ormlite.stmt.QueryBuilder;
+import com.j256.ormlite.stmt.SelectArg;
+
+/**
+ * Lookup query with arguments, which is prepared once per thread and reused
+ * for every call. A {@link PreparedQuery} keeps the values of its
+ * {@link SelectArg}s, so it can not be shared between threads.
+ * 
+ * @author pawlidim
+ *
+ * @param <T>
+ *            the model type
+ */
+final class PreparedFinder<T> {
+
+	/**
+	 * Builds the query of the finder.
+	 */
+	interface Builder<T> {
+
+		/**
+		 * @param builder
+		 *            a new query builder
+		 * @param args
+		 *            the arguments of the query
+		 * @return the prepared query
+		 * @throws SQLException
+		 */
+		PreparedQuery<T> prepare(QueryBuilder<T, Integer> builder, SelectArg[] args) throws SQLException;
+	}
+
+	private final Dao<T, Integer> dao;
+	private final Builder<T> builder;
+	private final SqlType[] arguments;
+	private final ThreadLocal<Prepared<T>> prepared = new ThreadLocal<Prepared<T>>();
+
+	/**
+	 * Default constructor to construct the finder.
+	 * 
+	 * @param dao
+	 *            the dao to query
+	 * @param builder
+	 *            builds the query
+	 * @param arguments
+	 *            the sql types of the arguments
+	 */
+	PreparedFinder(Dao<T, Integer> dao, Builder<T> builder, SqlType... arguments) {
+		super();
+		this.dao = dao;
+		this.builder = builder;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * @param values
+	 *            the argument values
+	 * @return all matching rows
+	 * @throws SQLException
+	 */
+	List<T> query(Object... values) throws SQLException {
+		return dao.query(prepare(values));
+	}
+
+	/**
+	 * @param values
+	 *            the argument values
+	 * @return the first matching row or null
+	 * @throws SQLException
+	 */
+	T queryForFirst(Object... values) throws SQLException {
+		return dao.queryForFirst(prepare(values));
+	}
+
+	private PreparedQuery<T> prepare(Object[] values) throws SQLException {
+		Prepared<T> current = prepared.get();
+		if (current == null) {
+			final SelectArg[] args = new SelectArg[arguments.length];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = new SelectArg(arguments[i], null);
+			}
+			current = new Prepared<T>(builder.prepare(dao.queryBuilder(), args), args);
+			prepared.set(current);
+		}
+		for (int i = 0; i < arguments.length; i++) {
+			current.args[i].setValue(values[i]);
+		}
+		return current.query;
+	}
+
+	/**
+	 * Prepared query and its arguments of one thread.
+	 */
+	private static final class Prepared<T> {
+
+		private final PreparedQuery<T> query;
+		private final SelectArg[] args;
+
+		Prepared(PreparedQuery<T> query, SelectArg[] args) {
+			super();
+			this.query = query;
+			this.args = args;
+		}
+	}
+}
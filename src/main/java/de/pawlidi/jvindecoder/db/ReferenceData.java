@@ -0,0 +1,422 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import de.pawlidi.jvindecoder.WMIClassifier;
+import de.pawlidi.jvindecoder.WMIManufacturerIndex;
+import de.pawlidi.jvindecoder.model.BaseModel;
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+import de.pawlidi.jvindecoder.utils.VinAlphabet;
+
+/**
+ * Immutable in-memory copy of all reference tables. The rows are indexed by
+ * uuid, wmi code and manufacturer, so that a read-only decoder never has to
+ * touch the database after the data has been loaded.
+ *
+ * <p>
+ * Every VDS and VIS row references the manufacturer instance of this snapshot.
+ * Rows which reference another instance are copied, the given rows are not
+ * modified.
+ * </p>
+ *
+ * @author pawlidim
+ *
+ */
+public final class ReferenceData {
+
+	private static final int VDS_START = 3;
+	private static final int VDS_END = 9;
+	private static final int VIS_START = 9;
+	private static final int VIS_END = 17;
+
+	private final List<WMIRegion> regions;
+	private final List<WMICountry> countries;
+	private final List<WMIManufacturer> manufacturers;
+	private final List<VehicleDescriptorSection> vdsList;
+	private final List<VehicleIndicatorSection> visList;
+
+	private final Map<String, WMIRegion> regionsByUuid;
+	private final Map<String, WMICountry> countriesByUuid;
+	private final Map<String, WMIManufacturer> manufacturersByUuid;
+	private final Map<String, VehicleDescriptorSection> vdsByUuid;
+	private final Map<String, VehicleIndicatorSection> visByUuid;
+	private final Map<String, List<VehicleDescriptorSection>> vdsByManufacturer;
+	private final Map<String, List<VehicleIndicatorSection>> visByManufacturer;
+	private final List<List<WMICountry>> countriesByPrefix;
+
+	private final WMIClassifier classifier;
+	private final WMIManufacturerIndex manufacturerIndex;
+
+	/**
+	 * Default constructor to construct the reference data from the given rows.
+	 *
+	 * @param regions
+	 * @param countries
+	 * @param manufacturers
+	 * @param vdsList
+	 * @param visList
+	 */
+	public ReferenceData(List<WMIRegion> regions, List<WMICountry> countries, List<WMIManufacturer> manufacturers,
+			List<VehicleDescriptorSection> vdsList, List<VehicleIndicatorSection> visList) {
+		super();
+		this.regions = copy(regions);
+		this.countries = copy(countries);
+		this.manufacturers = copy(manufacturers);
+
+		regionsByUuid = indexByUuid(this.regions);
+		countriesByUuid = indexByUuid(this.countries);
+		manufacturersByUuid = indexByUuid(this.manufacturers);
+
+		this.vdsList = copy(canonicalVds(vdsList));
+		this.visList = copy(canonicalVis(visList));
+		vdsByUuid = indexByUuid(this.vdsList);
+		visByUuid = indexByUuid(this.visList);
+
+		final Map<String, List<VehicleDescriptorSection>> vdsGroups = new HashMap<String, List<VehicleDescriptorSection>>();
+		for (VehicleDescriptorSection vds : this.vdsList) {
+			if (vds.getManufacturer() != null) {
+				group(vdsGroups, vds.getManufacturer().getUuid()).add(vds);
+			}
+		}
+		vdsByManufacturer = freeze(vdsGroups);
+
+		final Map<String, List<VehicleIndicatorSection>> visGroups = new HashMap<String, List<VehicleIndicatorSection>>();
+		for (VehicleIndicatorSection vis : this.visList) {
+			if (vis.getManufacturer() != null) {
+				group(visGroups, vis.getManufacturer().getUuid()).add(vis);
+			}
+		}
+		visByManufacturer = freeze(visGroups);
+		countriesByPrefix = groupByPrefix(this.countries);
+
+		classifier = WMIClassifier.compile(this.regions, this.countries);
+		manufacturerIndex = WMIManufacturerIndex.build(this.manufacturers);
+	}
+
+	private static <T> List<T> copy(List<T> list) {
+		if (list == null || list.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(new ArrayList<T>(list));
+	}
+
+	private static <T extends BaseModel> Map<String, T> indexByUuid(List<T> list) {
+		final Map<String, T> index = new HashMap<String, T>(list.size() * 2);
+		for (T model : list) {
+			index.put(model.getUuid(), model);
+		}
+		return Collections.unmodifiableMap(index);
+	}
+
+	private static <T> List<T> group(Map<String, List<T>> groups, String key) {
+		List<T> group = groups.get(key);
+		if (group == null) {
+			group = new ArrayList<T>();
+			groups.put(key, group);
+		}
+		return group;
+	}
+
+	private static <T> Map<String, List<T>> freeze(Map<String, List<T>> groups) {
+		for (Map.Entry<String, List<T>> entry : groups.entrySet()) {
+			entry.setValue(Collections.unmodifiableList(entry.getValue()));
+		}
+		return Collections.unmodifiableMap(groups);
+	}
+
+	private static List<List<WMICountry>> groupByPrefix(List<WMICountry> countries) {
+		final List<List<WMICountry>> groups = new ArrayList<List<WMICountry>>(VinAlphabet.SIZE);
+		for (int i = 0; i < VinAlphabet.SIZE; i++) {
+			groups.add(new ArrayList<WMICountry>());
+		}
+		for (WMICountry country : countries) {
+			final Pattern pattern;
+			try {
+				pattern = country.getPrefixRegex() == null ? null : Pattern.compile(country.getPrefixRegex());
+			} catch (PatternSyntaxException e) {
+				continue;
+			}
+			for (int i = 0; pattern != null && i < VinAlphabet.SIZE; i++) {
+				if (pattern.matcher(String.valueOf(VinAlphabet.charAt(i))).matches()) {
+					groups.get(i).add(country);
+				}
+			}
+		}
+		for (int i = 0; i < VinAlphabet.SIZE; i++) {
+			groups.set(i, copy(groups.get(i)));
+		}
+		return groups;
+	}
+
+	private WMIManufacturer canonical(WMIManufacturer manufacturer) {
+		if (manufacturer == null) {
+			return null;
+		}
+		final WMIManufacturer known = manufacturersByUuid.get(manufacturer.getUuid());
+		return known == null ? manufacturer : known;
+	}
+
+	private List<VehicleDescriptorSection> canonicalVds(List<VehicleDescriptorSection> list) {
+		if (list == null) {
+			return null;
+		}
+		final List<VehicleDescriptorSection> canonical = new ArrayList<VehicleDescriptorSection>(list.size());
+		for (VehicleDescriptorSection vds : list) {
+			final WMIManufacturer manufacturer = canonical(vds.getManufacturer());
+			if (manufacturer == vds.getManufacturer()) {
+				canonical.add(vds);
+				continue;
+			}
+			final VehicleDescriptorSection copy = new VehicleDescriptorSection();
+			copy.setId(vds.getId());
+			copy.setUuid(vds.getUuid());
+			copy.setManufacturer(manufacturer);
+			copy.setCode(vds.getCode());
+			copy.setDescription(vds.getDescription());
+			canonical.add(copy);
+		}
+		return canonical;
+	}
+
+	private List<VehicleIndicatorSection> canonicalVis(List<VehicleIndicatorSection> list) {
+		if (list == null) {
+			return null;
+		}
+		final List<VehicleIndicatorSection> canonical = new ArrayList<VehicleIndicatorSection>(list.size());
+		for (VehicleIndicatorSection vis : list) {
+			final WMIManufacturer manufacturer = canonical(vis.getManufacturer());
+			if (manufacturer == vis.getManufacturer()) {
+				canonical.add(vis);
+				continue;
+			}
+			final VehicleIndicatorSection copy = new VehicleIndicatorSection();
+			copy.setId(vis.getId());
+			copy.setUuid(vis.getUuid());
+			copy.setManufacturer(manufacturer);
+			copy.setCode(vis.getCode());
+			copy.setDescription(vis.getDescription());
+			canonical.add(copy);
+		}
+		return canonical;
+	}
+
+	/**
+	 * @return the compiled wmi region and country lookup table
+	 */
+	public WMIClassifier getClassifier() {
+		return classifier;
+	}
+
+	/**
+	 * @return the wmi manufacturer index
+	 */
+	public WMIManufacturerIndex getManufacturerIndex() {
+		return manufacturerIndex;
+	}
+
+	/**
+	 * @return the regions
+	 */
+	public List<WMIRegion> getRegions() {
+		return regions;
+	}
+
+	/**
+	 * @return the countries
+	 */
+	public List<WMICountry> getCountries() {
+		return countries;
+	}
+
+	/**
+	 * @return the manufacturers
+	 */
+	public List<WMIManufacturer> getManufacturers() {
+		return manufacturers;
+	}
+
+	/**
+	 * @return the vds list
+	 */
+	public List<VehicleDescriptorSection> getVdsList() {
+		return vdsList;
+	}
+
+	/**
+	 * @return the vis list
+	 */
+	public List<VehicleIndicatorSection> getVisList() {
+		return visList;
+	}
+
+	/**
+	 * @param uuid
+	 * @return the region with given uuid or null
+	 */
+	public WMIRegion getRegion(String uuid) {
+		return uuid == null ? null : regionsByUuid.get(uuid);
+	}
+
+	/**
+	 * @param uuid
+	 * @return the country with given uuid or null
+	 */
+	public WMICountry getCountry(String uuid) {
+		return uuid == null ? null : countriesByUuid.get(uuid);
+	}
+
+	/**
+	 * @param uuid
+	 * @return the manufacturer with given uuid or null
+	 */
+	public WMIManufacturer getManufacturer(String uuid) {
+		return uuid == null ? null : manufacturersByUuid.get(uuid);
+	}
+
+	/**
+	 * @param wmiCode
+	 * @return the first manufacturer with given three or six character wmi code
+	 *         or null
+	 */
+	public WMIManufacturer getManufacturerByWmiCode(String wmiCode) {
+		return manufacturerIndex.get(wmiCode);
+	}
+
+	/**
+	 * @param uuid
+	 * @return the vds with given uuid or null
+	 */
+	public VehicleDescriptorSection getVds(String uuid) {
+		return uuid == null ? null : vdsByUuid.get(uuid);
+	}
+
+	/**
+	 * @param uuid
+	 * @return the vis with given uuid or null
+	 */
+	public VehicleIndicatorSection getVis(String uuid) {
+		return uuid == null ? null : visByUuid.get(uuid);
+	}
+
+	/**
+	 * @param prefix
+	 *            the first character of a vin
+	 * @return all countries with a prefix regex matching the character, never
+	 *         null
+	 */
+	public List<WMICountry> getCountries(char prefix) {
+		final int index = VinAlphabet.index(prefix);
+		return index < 0 ? Collections.<WMICountry>emptyList() : countriesByPrefix.get(index);
+	}
+
+	/**
+	 * @param manufacturer
+	 * @return all vds rows of the given manufacturer, never null
+	 */
+	public List<VehicleDescriptorSection> getVdsList(WMIManufacturer manufacturer) {
+		if (manufacturer == null) {
+			return Collections.emptyList();
+		}
+		final List<VehicleDescriptorSection> list = vdsByManufacturer.get(manufacturer.getUuid());
+		return list == null ? Collections.<VehicleDescriptorSection>emptyList() : list;
+	}
+
+	/**
+	 * Returns the vds row of the manufacturer matching the vehicle descriptor
+	 * section (positions 4 to 9) of the given vin. If more than one row matches,
+	 * the row with the longest code wins.
+	 *
+	 * @param manufacturer
+	 * @param code
+	 *            the vin
+	 * @return the vds row or null if not found
+	 */
+	public VehicleDescriptorSection findVds(WMIManufacturer manufacturer, CharSequence code) {
+		VehicleDescriptorSection match = null;
+		int length = -1;
+		for (VehicleDescriptorSection vds : getVdsList(manufacturer)) {
+			if (matches(code, VDS_START, VDS_END, vds.getCode(), length)) {
+				match = vds;
+				length = vds.getCode().length();
+			}
+		}
+		return match;
+	}
+
+	/**
+	 * Returns the vis row of the manufacturer matching the vehicle indicator
+	 * section (positions 10 to 17) of the given vin. If more than one row
+	 * matches, the row with the longest code wins.
+	 *
+	 * @param manufacturer
+	 * @param code
+	 *            the vin
+	 * @return the vis row or null if not found
+	 */
+	public VehicleIndicatorSection findVis(WMIManufacturer manufacturer, CharSequence code) {
+		VehicleIndicatorSection match = null;
+		int length = -1;
+		for (VehicleIndicatorSection vis : getVisList(manufacturer)) {
+			if (matches(code, VIS_START, VIS_END, vis.getCode(), length)) {
+				match = vis;
+				length = vis.getCode().length();
+			}
+		}
+		return match;
+	}
+
+	/**
+	 * Checks if the section code is a prefix of the given vin section and longer
+	 * than the current match.
+	 */
+	private static boolean matches(CharSequence code, int start, int end, String sectionCode, int length) {
+		if (code == null || sectionCode == null || sectionCode.length() <= length
+				|| sectionCode.length() > end - start || code.length() < start + sectionCode.length()) {
+			return false;
+		}
+		for (int i = 0; i < sectionCode.length(); i++) {
+			if (code.charAt(start + i) != sectionCode.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param manufacturer
+	 * @return all vis rows of the given manufacturer, never null
+	 */
+	public List<VehicleIndicatorSection> getVisList(WMIManufacturer manufacturer) {
+		if (manufacturer == null) {
+			return Collections.emptyList();
+		}
+		final List<VehicleIndicatorSection> list = visByManufacturer.get(manufacturer.getUuid());
+		return list == null ? Collections.<VehicleIndicatorSection>emptyList() : list;
+	}
+
+}
@@ -0,0 +1,550 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.dao.GenericRawResults;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.jdbc.JdbcPooledConnectionSource;
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.table.TableUtils;
+
+import de.pawlidi.jvindecoder.model.BaseModel;
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.utils.log.ILog;
+import de.pawlidi.utils.log.Logging;
+
+/**
+ * Offline importer of large manufacturer, VDS and VIS dumps. The source is
+ * parsed on the calling thread, the rows are collected into batches and
+ * inserted by a pool of threads, one transaction per batch. The number of
+ * batches in flight is bounded, so the source is never held in memory, only
+ * the manufacturers are kept to resolve the sections.
+ * 
+ * <p>
+ * Every row of the delimiter separated source starts with its type:
+ * </p>
+ * <ul>
+ * <li>{@code WMI}, wmi code, name, description</li>
+ * <li>{@code VDS}, wmi code, code, description</li>
+ * <li>{@code VIS}, wmi code, code, description</li>
+ * </ul>
+ * <p>
+ * Sections reference a manufacturer of an earlier row or of the database.
+ * Invalid rows and manufacturers with an already known wmi code are counted
+ * and skipped. The ids of the new manufacturers are assigned while parsing, so
+ * the sections can reference them before the manufacturer is committed.
+ * </p>
+ * 
+ * <p>
+ * If a checkpoint file is set, the source line up to which all rows are
+ * committed is stored there, together with the last manufacturer id assigned
+ * up to that line. A failed import started again with the same source and
+ * checkpoint continues after that line and assigns the same ids again. The
+ * parser waits while {@code queueCapacity + threads} batches after the
+ * checkpoint are not committed, so no later row can have been committed. The
+ * rows of this window are only inserted if their uuid, which is derived from
+ * the source line, does not exist yet. The checkpoint is deleted after a
+ * successful import.
+ * </p>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class ReferenceDataImporter {
+
+	/** Defines the type of manufacturer rows */
+	public static final String WMI = "WMI";
+	/** Defines the type of vds rows */
+	public static final String VDS = "VDS";
+	/** Defines the type of vis rows */
+	public static final String VIS = "VIS";
+
+	/** Defines the default number of rows inserted in one transaction */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private static final ILog log = Logging.getLog(ReferenceDataImporter.class);
+
+	private static final long POLL_MILLIS = 100;
+
+	private final String databaseUrl;
+	private char delimiter = BulkLoader.CSV;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	private int queueCapacity = 4;
+	private Path checkpoint;
+	private ImportListener listener;
+
+	/**
+	 * Default constructor to construct the importer.
+	 * 
+	 * @param databaseUrl
+	 *            the jdbc url of the target database, e.g.
+	 *            {@code jdbc:h2:file:/data/decoder;USER=decoder}
+	 */
+	public ReferenceDataImporter(String databaseUrl) {
+		super();
+		this.databaseUrl = databaseUrl;
+	}
+
+	/**
+	 * @param delimiter
+	 *            the field delimiter, {@link BulkLoader#CSV} by default
+	 */
+	public void setDelimiter(char delimiter) {
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * @param batchSize
+	 *            the number of rows inserted in one transaction
+	 */
+	public void setBatchSize(int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize must be positive");
+		}
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @param threads
+	 *            the number of insert threads
+	 */
+	public void setThreads(int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("threads must be positive");
+		}
+		this.threads = threads;
+	}
+
+	/**
+	 * @param queueCapacity
+	 *            the number of parsed batches waiting for an insert thread
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		if (queueCapacity <= 0) {
+			throw new IllegalArgumentException("queueCapacity must be positive");
+		}
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * @param checkpoint
+	 *            the checkpoint file or null to always import the whole source
+	 */
+	public void setCheckpoint(Path checkpoint) {
+		this.checkpoint = checkpoint;
+	}
+
+	/**
+	 * @param listener
+	 *            the progress listener or null
+	 */
+	public void setListener(ImportListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Imports the given UTF-8 file.
+	 * 
+	 * @param file
+	 *            the source file
+	 * @return the number of inserted rows
+	 * @throws IOException
+	 *             if the source or the checkpoint could not be read or written
+	 * @throws SQLException
+	 *             if a batch could not be inserted
+	 */
+	public long importFile(Path file) throws IOException, SQLException {
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return importFrom(reader);
+		}
+	}
+
+	/**
+	 * Imports the given source.
+	 * 
+	 * @param reader
+	 *            the source, not closed by this method
+	 * @return the number of inserted rows
+	 * @throws IOException
+	 *             if the source or the checkpoint could not be read or written
+	 * @throws SQLException
+	 *             if a batch could not be inserted
+	 */
+	public long importFrom(Reader reader) throws IOException, SQLException {
+		final long start = System.currentTimeMillis();
+		final JdbcPooledConnectionSource connection = new JdbcPooledConnectionSource(databaseUrl);
+		final Import run;
+		try {
+			connection.setMaxConnectionsFree(threads);
+			final long[] resume = readCheckpoint();
+			run = new Import(connection, resume[0], (int) resume[1]);
+			run.execute(new DelimitedReader(reader, delimiter));
+		} finally {
+			connection.close();
+		}
+		if (checkpoint != null) {
+			Files.deleteIfExists(checkpoint);
+		}
+		log.info("Import {0} rows and reject {1} rows in {2} ms", run.inserted.get(), run.rejected.get(),
+				System.currentTimeMillis() - start);
+		return run.inserted.get();
+	}
+
+	/**
+	 * @return the checkpoint line and the last manufacturer id, -1 if the
+	 *         checkpoint has no id
+	 */
+	private long[] readCheckpoint() throws IOException {
+		if (checkpoint == null || !Files.exists(checkpoint)) {
+			return new long[] { 0, -1 };
+		}
+		final String line = new String(Files.readAllBytes(checkpoint), StandardCharsets.UTF_8).trim();
+		final String[] values = line.split(" ");
+		try {
+			return new long[] { Long.parseLong(values[0]), values.length > 1 ? Integer.parseInt(values[1]) : -1 };
+		} catch (NumberFormatException e) {
+			throw new IOException("Invalid checkpoint " + line);
+		}
+	}
+
+	private void writeCheckpoint(long line, int lastId) throws IOException {
+		final Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+		Files.write(temp, (line + " " + lastId).getBytes(StandardCharsets.UTF_8));
+		Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static String uuid(long line, String[] row) {
+		final String name = line + ":" + String.join("\u0000", row);
+		return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+	}
+
+	/**
+	 * Rows of the source inserted in one transaction.
+	 */
+	private static final class Batch {
+
+		private final long sequence;
+		private final boolean resumed;
+		private final List<BaseModel> rows;
+		private long lastLine;
+		private int lastId;
+
+		Batch(long sequence, boolean resumed, int size) {
+			super();
+			this.sequence = sequence;
+			this.resumed = resumed;
+			this.rows = new ArrayList<BaseModel>(size);
+		}
+	}
+
+	/**
+	 * State of one import run.
+	 */
+	private final class Import {
+
+		private final JdbcPooledConnectionSource connection;
+		private final long resumeLine;
+		private final int resumeId;
+		private final int window = queueCapacity + threads;
+		private final Dao<WMIManufacturer, Integer> manufacturerDao;
+		private final Dao<VehicleDescriptorSection, Integer> vdsDao;
+		private final Dao<VehicleIndicatorSection, Integer> visDao;
+		private final PreparedFinder<WMIManufacturer> manufacturerFinder;
+		private final PreparedFinder<VehicleDescriptorSection> vdsFinder;
+		private final PreparedFinder<VehicleIndicatorSection> visFinder;
+
+		private final Map<String, WMIManufacturer> manufacturers = new HashMap<String, WMIManufacturer>();
+		private final BlockingQueue<Batch> queue = new ArrayBlockingQueue<Batch>(queueCapacity);
+		private final AtomicReference<Exception> failure = new AtomicReference<Exception>();
+		private final AtomicLong inserted = new AtomicLong();
+		private final AtomicLong rejected = new AtomicLong();
+		private final Map<Long, Batch> pending = new HashMap<Long, Batch>();
+		private volatile boolean parsed;
+		private long nextSequence;
+		private long checkpointLine;
+		private int checkpointId;
+		private int lastManufacturerId;
+
+		Import(JdbcPooledConnectionSource connection, long resumeLine, int resumeId) throws SQLException {
+			super();
+			this.connection = connection;
+			this.resumeLine = resumeLine;
+			this.resumeId = resumeId;
+			checkpointLine = resumeLine;
+			TableUtils.createTableIfNotExists(connection, WMIManufacturer.class);
+			TableUtils.createTableIfNotExists(connection, VehicleDescriptorSection.class);
+			TableUtils.createTableIfNotExists(connection, VehicleIndicatorSection.class);
+			manufacturerDao = DaoManager.createDao(connection, WMIManufacturer.class);
+			vdsDao = DaoManager.createDao(connection, VehicleDescriptorSection.class);
+			visDao = DaoManager.createDao(connection, VehicleIndicatorSection.class);
+			manufacturerFinder = new PreparedFinder<WMIManufacturer>(manufacturerDao,
+					(builder, args) -> builder.where().eq(BaseModel.UUID_COLUMN, args[0]).prepare(), SqlType.STRING);
+			vdsFinder = new PreparedFinder<VehicleDescriptorSection>(vdsDao,
+					(builder, args) -> builder.where().eq(BaseModel.UUID_COLUMN, args[0]).prepare(), SqlType.STRING);
+			visFinder = new PreparedFinder<VehicleIndicatorSection>(visDao,
+					(builder, args) -> builder.where().eq(BaseModel.UUID_COLUMN, args[0]).prepare(), SqlType.STRING);
+		}
+
+		void execute(DelimitedReader reader) throws IOException, SQLException {
+			loadManufacturers();
+			final AtomicInteger counter = new AtomicInteger();
+			final ExecutorService executor = Executors.newFixedThreadPool(threads,
+					runnable -> new Thread(runnable, "jvindecoder-import-" + counter.incrementAndGet()));
+			for (int i = 0; i < threads; i++) {
+				executor.execute(this::insertBatches);
+			}
+			try {
+				parse(reader);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failure.compareAndSet(null, new InterruptedIOException("Import interrupted"));
+			} finally {
+				parsed = true;
+				executor.shutdown();
+				try {
+					while (!executor.awaitTermination(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+						// wait for the pending batches
+					}
+				} catch (InterruptedException e) {
+					executor.shutdownNow();
+					Thread.currentThread().interrupt();
+				}
+			}
+			final Exception e = failure.get();
+			if (e instanceof IOException) {
+				throw (IOException) e;
+			} else if (e instanceof SQLException) {
+				throw (SQLException) e;
+			} else if (e != null) {
+				throw new SQLException("Could not import reference data", e);
+			}
+		}
+
+		private void loadManufacturers() throws SQLException, IOException {
+			try (GenericRawResults<String[]> results = manufacturerDao.queryRaw("SELECT " + WMIManufacturer.WMI_CODE
+					+ ", " + BaseModel.ID + ", " + BaseModel.UUID_COLUMN + " FROM " + WMIManufacturer.NAME)) {
+				for (String[] row : results) {
+					final WMIManufacturer manufacturer = new WMIManufacturer();
+					manufacturer.setWmiCode(row[0]);
+					manufacturer.setId(Integer.parseInt(row[1]));
+					manufacturer.setUuid(row[2]);
+					manufacturers.put(row[0], manufacturer);
+					lastManufacturerId = Math.max(lastManufacturerId, manufacturer.getId());
+				}
+			}
+			if (resumeId >= 0) {
+				// the ids after the checkpoint are assigned like in the failed run
+				lastManufacturerId = resumeId;
+			}
+			checkpointId = lastManufacturerId;
+		}
+
+		private void parse(DelimitedReader reader) throws IOException, InterruptedException {
+			final long uncertainRows = resumeLine > 0 ? (long) window * batchSize : 0;
+			long rows = 0;
+			long sequence = 0;
+			Batch batch = null;
+			for (String[] row = reader.next(); row != null && failure.get() == null; row = reader.next()) {
+				final long line = reader.getLine();
+				final BaseModel model = map(row, line);
+				if (line <= resumeLine) {
+					continue;
+				}
+				if (model == null) {
+					rejected.incrementAndGet();
+					continue;
+				}
+				if (batch == null) {
+					batch = new Batch(sequence++, rows < uncertainRows, batchSize);
+				}
+				batch.rows.add(model);
+				batch.lastLine = line;
+				batch.lastId = lastManufacturerId;
+				rows++;
+				if (batch.rows.size() == batchSize) {
+					put(batch);
+					batch = null;
+				}
+			}
+			if (batch != null) {
+				put(batch);
+			}
+		}
+
+		/**
+		 * Queues the batch once all batches more than the window before it are
+		 * committed, so no row after the window of the checkpoint is committed.
+		 */
+		private void put(Batch batch) throws InterruptedException {
+			synchronized (this) {
+				while (batch.sequence - nextSequence >= window && failure.get() == null) {
+					wait(POLL_MILLIS);
+				}
+			}
+			queue.put(batch);
+		}
+
+		/**
+		 * @return the model object of the row or null if the row is invalid
+		 */
+		private BaseModel map(String[] row, long line) {
+			if (row.length < 3) {
+				return null;
+			}
+			final String wmiCode = row[1];
+			if (WMI.equals(row[0])) {
+				if (wmiCode.length() != 3 && wmiCode.length() != 6) {
+					return null;
+				}
+				final String uuid = uuid(line, row);
+				final WMIManufacturer known = manufacturers.get(wmiCode);
+				if (known != null) {
+					// committed by an earlier run of the same source or a duplicate
+					if (!uuid.equals(known.getUuid())) {
+						return null;
+					}
+					lastManufacturerId = Math.max(lastManufacturerId, known.getId());
+					return known;
+				}
+				final WMIManufacturer manufacturer = new WMIManufacturer(row[2], row.length > 3 ? row[3] : null,
+						wmiCode);
+				manufacturer.setId(++lastManufacturerId);
+				manufacturer.setUuid(uuid);
+				manufacturers.put(wmiCode, manufacturer);
+				return manufacturer;
+			}
+			final WMIManufacturer manufacturer = manufacturers.get(wmiCode);
+			if (manufacturer == null) {
+				return null;
+			}
+			if (VDS.equals(row[0])) {
+				final VehicleDescriptorSection vds = new VehicleDescriptorSection();
+				vds.setUuid(uuid(line, row));
+				vds.setManufacturer(manufacturer);
+				vds.setCode(row[2]);
+				vds.setDescription(row.length > 3 ? row[3] : null);
+				return vds;
+			}
+			if (VIS.equals(row[0])) {
+				final VehicleIndicatorSection vis = new VehicleIndicatorSection();
+				vis.setUuid(uuid(line, row));
+				vis.setManufacturer(manufacturer);
+				vis.setCode(row[2]);
+				vis.setDescription(row.length > 3 ? row[3] : null);
+				return vis;
+			}
+			return null;
+		}
+
+		private void insertBatches() {
+			while (true) {
+				final Batch batch;
+				try {
+					batch = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					failure.compareAndSet(null, new InterruptedIOException("Import interrupted"));
+					return;
+				}
+				if (batch == null) {
+					if (parsed) {
+						return;
+					}
+				} else if (failure.get() == null) {
+					try {
+						committed(batch, insert(batch));
+					} catch (SQLException | IOException | RuntimeException e) {
+						log.error("Could not import rows up to line {0} - {1}", batch.lastLine, e.getMessage());
+						failure.compareAndSet(null, e);
+					}
+				}
+			}
+		}
+
+		/**
+		 * @return the number of inserted rows
+		 */
+		private int insert(final Batch batch) throws SQLException {
+			return TransactionManager.callInTransaction(connection, () -> {
+				int count = 0;
+				for (BaseModel model : batch.rows) {
+					count += create(model, batch.resumed);
+				}
+				return count;
+			});
+		}
+
+		/**
+		 * Inserts the row, rows of resumed batches only if they do not exist.
+		 */
+		private int create(BaseModel model, boolean resumed) throws SQLException {
+			if (model instanceof WMIManufacturer) {
+				final WMIManufacturer manufacturer = (WMIManufacturer) model;
+				return resumed && manufacturerFinder.queryForFirst(manufacturer.getUuid()) != null ? 0
+						: manufacturerDao.create(manufacturer);
+			} else if (model instanceof VehicleDescriptorSection) {
+				final VehicleDescriptorSection vds = (VehicleDescriptorSection) model;
+				return resumed && vdsFinder.queryForFirst(vds.getUuid()) != null ? 0 : vdsDao.create(vds);
+			}
+			final VehicleIndicatorSection vis = (VehicleIndicatorSection) model;
+			return resumed && visFinder.queryForFirst(vis.getUuid()) != null ? 0 : visDao.create(vis);
+		}
+
+		private synchronized void committed(Batch batch, int count) throws IOException {
+			inserted.addAndGet(count);
+			pending.put(batch.sequence, batch);
+			final long previous = checkpointLine;
+			for (Batch next = pending.remove(nextSequence); next != null; next = pending.remove(nextSequence)) {
+				nextSequence++;
+				checkpointLine = next.lastLine;
+				checkpointId = next.lastId;
+			}
+			notifyAll();
+			if (checkpoint != null && checkpointLine != previous) {
+				writeCheckpoint(checkpointLine, checkpointId);
+			}
+			if (listener != null) {
+				listener.progress(checkpointLine, inserted.get(), rejected.get());
+			}
+		}
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import java.sql.SQLException;
+
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.table.DatabaseTableConfig;
+import com.j256.ormlite.table.TableUtils;
+
+import de.pawlidi.jvindecoder.model.BaseModel;
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+import de.pawlidi.utils.log.ILog;
+import de.pawlidi.utils.log.Logging;
+
+/**
+ * Migration of the reference schema to the current version. The version is
+ * stored in the {@value #TABLE_NAME} table.
+ * 
+ * <ul>
+ * <li>Version 1 uses the uuid as {@code VARCHAR} primary key of every table,
+ * the sections reference the uuid of the manufacturer.</li>
+ * <li>Version 2 uses an integer primary key, the uuid is kept in a unique
+ * index. The sections reference the integer key of the manufacturer through an
+ * indexed column, the wmi code of the manufacturers is unique.</li>
+ * </ul>
+ * 
+ * <p>
+ * H2 commits every schema change, so a failed migration is not rolled back.
+ * Migrate a copy of the database.
+ * </p>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class SchemaMigration {
+
+	/** Defines the current schema version */
+	public static final int VERSION = 2;
+
+	/** Defines the name of the version table */
+	public static final String TABLE_NAME = "SCHEMA_VERSION";
+
+	private static final ILog log = Logging.getLog(SchemaMigration.class);
+
+	private static final Class<?>[] TABLES = { WMIRegion.class, WMICountry.class, WMIManufacturer.class,
+			VehicleDescriptorSection.class, VehicleIndicatorSection.class };
+
+	/**
+	 * Invisible constructor.
+	 */
+	private SchemaMigration() {
+		super();
+	}
+
+	/**
+	 * Returns the schema version of the database.
+	 * 
+	 * @param connection
+	 *            the database connection
+	 * @return the version, 0 for an empty database
+	 * @throws SQLException
+	 */
+	public static int getVersion(ConnectionSource connection) throws SQLException {
+		final DatabaseConnection database = connection.getReadOnlyConnection(TABLE_NAME);
+		try {
+			return getVersion(database);
+		} finally {
+			connection.releaseConnection(database);
+		}
+	}
+
+	/**
+	 * Migrates the database to the current schema version. Reference tables
+	 * which do not exist are created in the current layout.
+	 * 
+	 * @param connection
+	 *            the database connection
+	 * @return true, if the database was migrated
+	 * @throws SQLException
+	 *             if a schema change failed
+	 */
+	public static boolean migrate(ConnectionSource connection) throws SQLException {
+		final DatabaseConnection database = connection.getReadWriteConnection(TABLE_NAME);
+		try {
+			final int version = getVersion(database);
+			if (version >= VERSION) {
+				return false;
+			}
+			if (version == 1) {
+				log.info("Migrate reference schema from version {0} to {1}", version, VERSION);
+				migrateSurrogateKeys(database);
+			}
+			for (Class<?> type : TABLES) {
+				TableUtils.createTableIfNotExists(connection, type);
+			}
+			execute(database, "CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (VERSION INTEGER NOT NULL)");
+			execute(database, "DELETE FROM " + TABLE_NAME);
+			execute(database, "INSERT INTO " + TABLE_NAME + " (VERSION) VALUES (" + VERSION + ")");
+			return true;
+		} finally {
+			connection.releaseConnection(database);
+		}
+	}
+
+	private static int getVersion(DatabaseConnection database) throws SQLException {
+		if (database.isTableExists(TABLE_NAME)) {
+			return (int) database.queryForLong("SELECT MAX(VERSION) FROM " + TABLE_NAME);
+		}
+		// databases created before the version table
+		for (Class<?> type : TABLES) {
+			final String table = DatabaseTableConfig.extractTableName(type);
+			if (database.isTableExists(table)) {
+				return hasColumn(database, table, BaseModel.ID) ? 2 : 1;
+			}
+		}
+		return 0;
+	}
+
+	private static void migrateSurrogateKeys(DatabaseConnection database) throws SQLException {
+		renameColumn(database, WMIRegion.TABLE_NAME, "WMIREGEX", WMIRegion.REGEX);
+		renameColumn(database, WMICountry.TABLE_NAME, "PREFIXREGEX", WMICountry.PREFIX_REGEX);
+		renameColumn(database, WMICountry.TABLE_NAME, "SUFFIXREGEX", WMICountry.SUFFIX_REGEX);
+
+		for (String table : new String[] { WMIRegion.TABLE_NAME, WMICountry.TABLE_NAME, WMIManufacturer.NAME,
+				VehicleDescriptorSection.NAME, VehicleIndicatorSection.NAME }) {
+			if (database.isTableExists(table)) {
+				addSurrogateKey(database, table);
+			}
+		}
+		execute(database, "CREATE UNIQUE INDEX IF NOT EXISTS " + indexName(WMIManufacturer.NAME,
+				WMIManufacturer.WMI_CODE) + " ON " + WMIManufacturer.NAME + " (" + WMIManufacturer.WMI_CODE + ")");
+		for (String table : new String[] { VehicleDescriptorSection.NAME, VehicleIndicatorSection.NAME }) {
+			if (database.isTableExists(table)) {
+				migrateManufacturerReference(database, table);
+			}
+		}
+	}
+
+	/**
+	 * Replaces the uuid primary key by a generated integer key.
+	 */
+	private static void addSurrogateKey(DatabaseConnection database, String table) throws SQLException {
+		execute(database, "ALTER TABLE " + table + " ADD COLUMN " + BaseModel.ID + " INTEGER AUTO_INCREMENT");
+		execute(database, "ALTER TABLE " + table + " DROP PRIMARY KEY");
+		execute(database, "ALTER TABLE " + table + " ADD PRIMARY KEY (" + BaseModel.ID + ")");
+		execute(database, "CREATE UNIQUE INDEX " + indexName(table, BaseModel.UUID_COLUMN) + " ON " + table + " ("
+				+ BaseModel.UUID_COLUMN + ")");
+	}
+
+	/**
+	 * Replaces the manufacturer uuid of the sections by the integer key,
+	 * sections of unknown manufacturers are deleted.
+	 */
+	private static void migrateManufacturerReference(DatabaseConnection database, String table)
+			throws SQLException {
+		final String column = VehicleDescriptorSection.MANUFACTURER;
+		final String temp = column + "_KEY";
+		execute(database, "ALTER TABLE " + table + " ADD COLUMN " + temp + " INTEGER");
+		execute(database,
+				"UPDATE " + table + " SET " + temp + " = (SELECT M." + BaseModel.ID + " FROM " + WMIManufacturer.NAME
+						+ " M WHERE M." + BaseModel.UUID_COLUMN + " = " + table + "." + column + ")");
+		final int orphans = execute(database, "DELETE FROM " + table + " WHERE " + temp + " IS NULL");
+		if (orphans > 0) {
+			log.warn("Delete {0} rows of {1} without manufacturer", orphans, table);
+		}
+		execute(database, "ALTER TABLE " + table + " DROP COLUMN " + column);
+		execute(database, "ALTER TABLE " + table + " ALTER COLUMN " + temp + " RENAME TO " + column);
+		execute(database, "ALTER TABLE " + table + " ALTER COLUMN " + column + " SET NOT NULL");
+		execute(database,
+				"CREATE INDEX " + indexName(table, column) + " ON " + table + " (" + column + ")");
+	}
+
+	private static void renameColumn(DatabaseConnection database, String table, String from, String to)
+			throws SQLException {
+		if (hasColumn(database, table, from)) {
+			execute(database, "ALTER TABLE " + table + " ALTER COLUMN " + from + " RENAME TO " + to);
+		}
+	}
+
+	private static boolean hasColumn(DatabaseConnection database, String table, String column)
+			throws SQLException {
+		return database.queryForLong("SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = '" + table
+				+ "' AND COLUMN_NAME = '" + column + "'") > 0;
+	}
+
+	/**
+	 * @return the index name ormlite uses for the column
+	 */
+	private static String indexName(String table, String column) {
+		return table + "_" + column + "_idx";
+	}
+
+	private static int execute(DatabaseConnection database, String statement) throws SQLException {
+		return database.executeStatement(statement, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+	}
+}
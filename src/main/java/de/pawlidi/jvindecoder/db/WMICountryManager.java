@@ -21,10 +21,13 @@ import java.util.List;
 
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
-import com.j256.ormlite.stmt.QueryBuilder;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.DeleteBuilder;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
 
+import de.pawlidi.jvindecoder.jfr.DecoderEvents;
+import de.pawlidi.jvindecoder.model.BaseModel;
 import de.pawlidi.jvindecoder.model.WMICountry;
 import de.pawlidi.utils.log.ILog;
 import de.pawlidi.utils.log.Logging;
@@ -38,18 +41,38 @@ public final class WMICountryManager {
 
 	private static final ILog log = Logging.getLog(WMICountryManager.class);
 
-	private final Dao<WMICountry, String> countryDao;
-	private final QueryBuilder<WMICountry, String> countryQueryBuilder;
+	private final Dao<WMICountry, Integer> countryDao;
+	private final PreparedFinder<WMICountry> uuidFinder;
+	private final PreparedFinder<WMICountry> prefixFinder;
+	private volatile ReferenceData referenceData;
 
 	WMICountryManager(ConnectionSource connection) throws SQLException {
+		this(connection, true);
+	}
+
+	/**
+	 * Package visible constructor to construct new wmi country manager.
+	 * 
+	 * @param connection
+	 * @param createTable
+	 *            true, to create the table if it does not exist
+	 * @throws SQLException
+	 */
+	WMICountryManager(ConnectionSource connection, boolean createTable) throws SQLException {
 		super();
-		try {
-			TableUtils.createTable(connection, WMICountry.class);
-		} catch (SQLException e) {
-			log.error("Could not create table {0}", e.getMessage());
+		if (createTable) {
+			try {
+				TableUtils.createTable(connection, WMICountry.class);
+			} catch (SQLException e) {
+				log.error("Could not create table {0}", e.getMessage());
+			}
 		}
 		countryDao = DaoManager.createDao(connection, WMICountry.class);
-		countryQueryBuilder = countryDao.queryBuilder();
+		uuidFinder = new PreparedFinder<WMICountry>(countryDao,
+				(builder, args) -> builder.where().eq(BaseModel.UUID_COLUMN, args[0]).prepare(), SqlType.STRING);
+		prefixFinder = new PreparedFinder<WMICountry>(countryDao,
+				(builder, args) -> builder.where().raw("? REGEXP " + WMICountry.PREFIX_REGEX, args[0]).prepare(),
+				SqlType.STRING);
 	}
 
 	/**
@@ -63,6 +86,10 @@ public final class WMICountryManager {
 				|| country.getSuffixRegex() == null || country.getUuid() == null) {
 			return false;
 		}
+		if (isReadOnly()) {
+			return false;
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
 			countryDao.create(country);
 			log.info("Create new wmi country with name {0} and regex {1},{2}", country.getName(),
@@ -71,6 +98,8 @@ public final class WMICountryManager {
 		} catch (SQLException e) {
 			log.error("Could not create wmi country - {0}", e.getMessage());
 			return false;
+		} finally {
+			DecoderEvents.commitQuery(event, WMICountry.TABLE_NAME, "create", false);
 		}
 	}
 
@@ -83,13 +112,21 @@ public final class WMICountryManager {
 		if (id == null || id.trim().isEmpty()) {
 			return false;
 		}
+		if (isReadOnly()) {
+			return false;
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
-			countryDao.deleteById(id);
+			final DeleteBuilder<WMICountry, Integer> deleteBuilder = countryDao.deleteBuilder();
+			deleteBuilder.where().eq(BaseModel.UUID_COLUMN, id);
+			deleteBuilder.delete();
 			log.info("Delete new wmi country with id {0} ", id);
 			return true;
 		} catch (SQLException e) {
 			log.error("Could not delete wmi country - {0}", e.getMessage());
 			return false;
+		} finally {
+			DecoderEvents.commitQuery(event, WMICountry.TABLE_NAME, "deleteByUuid", false);
 		}
 	}
 
@@ -102,6 +139,10 @@ public final class WMICountryManager {
 		if (country == null) {
 			return false;
 		}
+		if (isReadOnly()) {
+			return false;
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
 			countryDao.delete(country);
 			log.info("Delete wmi country with name {0} and regex {1},{2}", country.getName(), country.getPrefixRegex(),
@@ -110,6 +151,8 @@ public final class WMICountryManager {
 		} catch (SQLException e) {
 			log.error("Could not delete wmi country - {0}", e.getMessage());
 			return false;
+		} finally {
+			DecoderEvents.commitQuery(event, WMICountry.TABLE_NAME, "delete", false);
 		}
 	}
 
@@ -122,6 +165,10 @@ public final class WMICountryManager {
 		if (country == null) {
 			return false;
 		}
+		if (isReadOnly()) {
+			return false;
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
 			countryDao.update(country);
 			log.info("Update wmi country with name {0} and regex {1},{2}", country.getName(), country.getPrefixRegex(),
@@ -130,6 +177,8 @@ public final class WMICountryManager {
 		} catch (SQLException e) {
 			log.error("Could not update wmi country - {0}", e.getMessage());
 			return false;
+		} finally {
+			DecoderEvents.commitQuery(event, WMICountry.TABLE_NAME, "update", false);
 		}
 	}
 
@@ -142,11 +191,44 @@ public final class WMICountryManager {
 		if (id == null || id.trim().isEmpty()) {
 			return null;
 		}
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMICountry.TABLE_NAME, "queryForId", true);
+			return data.getCountry(id);
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
-			return countryDao.queryForId(id);
+			return uuidFinder.queryForFirst(id);
 		} catch (SQLException e) {
 			log.error("Could not find wmi country - by id {0}", e.getMessage());
 			return null;
+		} finally {
+			DecoderEvents.commitQuery(event, WMICountry.TABLE_NAME, "queryForId", false);
+		}
+	}
+
+	/**
+	 * Finds all countries of the given first character of a vin.
+	 * 
+	 * @param prefix
+	 *            the first character of a vin
+	 * @return all countries with a prefix regex matching the character, never
+	 *         null
+	 */
+	public List<WMICountry> findByPrefixChar(char prefix) {
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMICountry.TABLE_NAME, "findByPrefixChar", true);
+			return data.getCountries(prefix);
+		}
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			return prefixFinder.query(String.valueOf(prefix));
+		} catch (SQLException e) {
+			log.error("Could not find wmi countries - by prefix {0}", e.getMessage());
+			return Collections.emptyList();
+		} finally {
+			DecoderEvents.commitQuery(event, WMICountry.TABLE_NAME, "findByPrefixChar", false);
 		}
 	}
 
@@ -155,11 +237,50 @@ public final class WMICountryManager {
 	 * @return
 	 */
 	public List<WMICountry> getList() {
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMICountry.TABLE_NAME, "queryForAll", true);
+			return data.getCountries();
+		}
 		try {
-			return countryDao.queryForAll();
+			return queryForAll();
 		} catch (SQLException e) {
 			log.error("Could not load wmi country list - {0}", e.getMessage());
 			return Collections.EMPTY_LIST;
 		}
 	}
+
+	/**
+	 * Loads all wmi country rows from the database.
+	 * 
+	 * @return all wmi country rows
+	 * @throws SQLException
+	 */
+	List<WMICountry> queryForAll() throws SQLException {
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			return countryDao.queryForAll();
+		} finally {
+			DecoderEvents.commitQuery(event, WMICountry.TABLE_NAME, "queryForAll", false);
+		}
+	}
+
+	/**
+	 * Serves all reads from the given in-memory reference data, the database
+	 * becomes read-only.
+	 * 
+	 * @param referenceData
+	 *            to serve reads from, null to read from the database again
+	 */
+	void setReferenceData(ReferenceData referenceData) {
+		this.referenceData = referenceData;
+	}
+
+	private boolean isReadOnly() {
+		if (referenceData != null) {
+			log.error("Could not modify wmi country in read-only in-memory mode");
+			return true;
+		}
+		return false;
+	}
 }
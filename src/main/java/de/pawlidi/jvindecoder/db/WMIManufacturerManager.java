@@ -16,13 +16,26 @@
 package de.pawlidi.jvindecoder.db;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
-import com.j256.ormlite.stmt.QueryBuilder;
+import com.j256.ormlite.dao.RawRowMapper;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.SelectArg;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
 
+import de.pawlidi.jvindecoder.jfr.DecoderEvents;
+import de.pawlidi.jvindecoder.model.BaseModel;
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
 import de.pawlidi.jvindecoder.model.WMIManufacturer;
 import de.pawlidi.utils.log.ILog;
 import de.pawlidi.utils.log.Logging;
@@ -31,18 +44,396 @@ public final class WMIManufacturerManager {
 
 	private static final ILog log = Logging.getLog(WMIManufacturerManager.class);
 
-	private final Dao<WMIManufacturer, String> manufacturerDao;
-	private final QueryBuilder<WMIManufacturer, String> manufacturerQueryBuilder;
+	/** Defines the maximum number of manufacturers loaded with one query */
+	private static final int MAX_BATCH_SIZE = 500;
+
+	/**
+	 * Section columns in the order of the row mappers, the manufacturer is only
+	 * referenced by its key to avoid a query per row.
+	 */
+	private static final String SECTION_COLUMNS = "SELECT " + BaseModel.ID + ", " + BaseModel.UUID_COLUMN + ", "
+			+ VehicleDescriptorSection.MANUFACTURER + ", CODE, DESCRIPTION FROM ";
+
+	/**
+	 * Section fields of the finders, without the manufacturer to skip its
+	 * refresh.
+	 */
+	private static final String[] SECTION_FIELDS = { BaseModel.UUID_COLUMN, "code", "description" };
+
+	private final Dao<WMIManufacturer, Integer> manufacturerDao;
+	private final Dao<VehicleDescriptorSection, Integer> vdsDao;
+	private final Dao<VehicleIndicatorSection, Integer> visDao;
+	private final PreparedFinder<WMIManufacturer> uuidFinder;
+	private final PreparedFinder<WMIManufacturer> wmiCodeFinder;
+	private final PreparedFinder<VehicleDescriptorSection> vdsFinder;
+	private final PreparedFinder<VehicleIndicatorSection> visFinder;
+	private volatile ReferenceData referenceData;
 
 	WMIManufacturerManager(ConnectionSource connection) throws SQLException {
+		this(connection, true);
+	}
+
+	/**
+	 * Package visible constructor to construct new wmi manufacturer manager.
+	 * 
+	 * @param connection
+	 * @param createTable
+	 *            true, to create the table if it does not exist
+	 * @throws SQLException
+	 */
+	WMIManufacturerManager(ConnectionSource connection, boolean createTable) throws SQLException {
 		super();
+		if (createTable) {
+			try {
+				TableUtils.createTable(connection, WMIManufacturer.class);
+			} catch (SQLException e) {
+				log.error("Could not create table {0}", e.getMessage());
+			}
+		}
+		manufacturerDao = DaoManager.createDao(connection, WMIManufacturer.class);
+		uuidFinder = new PreparedFinder<WMIManufacturer>(manufacturerDao,
+				(builder, args) -> builder.where().eq(BaseModel.UUID_COLUMN, args[0]).prepare(), SqlType.STRING);
+		wmiCodeFinder = new PreparedFinder<WMIManufacturer>(manufacturerDao,
+				(builder, args) -> builder.limit(1L).where().eq(WMIManufacturer.WMI_CODE, args[0]).prepare(),
+				SqlType.STRING);
+		vdsDao = DaoManager.createDao(connection, VehicleDescriptorSection.class);
+		visDao = DaoManager.createDao(connection, VehicleIndicatorSection.class);
+		vdsFinder = new PreparedFinder<VehicleDescriptorSection>(vdsDao,
+				(builder, args) -> builder.selectColumns(SECTION_FIELDS).where()
+						.eq(VehicleDescriptorSection.MANUFACTURER, args[0]).prepare(),
+				SqlType.INTEGER);
+		visFinder = new PreparedFinder<VehicleIndicatorSection>(visDao,
+				(builder, args) -> builder.selectColumns(SECTION_FIELDS).where()
+						.eq(VehicleIndicatorSection.MANUFACTURER, args[0]).prepare(),
+				SqlType.INTEGER);
+	}
+
+	/**
+	 * 
+	 * @param id
+	 * @return
+	 */
+	public WMIManufacturer findById(String id) {
+		if (id == null || id.trim().isEmpty()) {
+			return null;
+		}
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMIManufacturer.NAME, "queryForId", true);
+			return data.getManufacturer(id);
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
-			TableUtils.createTable(connection, WMIManufacturer.class);
+			return uuidFinder.queryForFirst(id);
 		} catch (SQLException e) {
-			log.error("Could not create table {0}", e.getMessage());
+			log.error("Could not find wmi manufacturer - by id {0}", e.getMessage());
+			return null;
+		} finally {
+			DecoderEvents.commitQuery(event, WMIManufacturer.NAME, "queryForId", false);
 		}
-		manufacturerDao = DaoManager.createDao(connection, WMIManufacturer.class);
-		manufacturerQueryBuilder = manufacturerDao.queryBuilder();
+	}
+
+	/**
+	 * Finds the manufacturer of the given wmi code.
+	 * 
+	 * @param wmiCode
+	 *            the three or six character wmi code
+	 * @return the first manufacturer with the wmi code or null
+	 */
+	public WMIManufacturer findByWmiCode(String wmiCode) {
+		if (wmiCode == null || wmiCode.trim().isEmpty()) {
+			return null;
+		}
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMIManufacturer.NAME, "findByWmiCode", true);
+			return data.getManufacturerByWmiCode(wmiCode);
+		}
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			return wmiCodeFinder.queryForFirst(wmiCode);
+		} catch (SQLException e) {
+			log.error("Could not find wmi manufacturer - by wmi code {0}", e.getMessage());
+			return null;
+		} finally {
+			DecoderEvents.commitQuery(event, WMIManufacturer.NAME, "findByWmiCode", false);
+		}
+	}
+
+	/**
+	 * Finds the vds rows of the given manufacturer.
+	 * 
+	 * @param manufacturer
+	 * @return all vds rows of the manufacturer, never null
+	 */
+	public List<VehicleDescriptorSection> findVdsByManufacturer(WMIManufacturer manufacturer) {
+		if (manufacturer == null || manufacturer.getUuid() == null) {
+			return Collections.emptyList();
+		}
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), VehicleDescriptorSection.NAME,
+					"findVdsByManufacturer", true);
+			return data.getVdsList(manufacturer);
+		}
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			final List<VehicleDescriptorSection> vdsList = vdsFinder.query(manufacturer.getId());
+			for (VehicleDescriptorSection vds : vdsList) {
+				vds.setManufacturer(manufacturer);
+			}
+			return vdsList;
+		} catch (SQLException e) {
+			log.error("Could not find vds - by manufacturer {0}", e.getMessage());
+			return Collections.emptyList();
+		} finally {
+			DecoderEvents.commitQuery(event, VehicleDescriptorSection.NAME, "findVdsByManufacturer", false);
+		}
+	}
+
+	/**
+	 * Finds the vis rows of the given manufacturer.
+	 * 
+	 * @param manufacturer
+	 * @return all vis rows of the manufacturer, never null
+	 */
+	public List<VehicleIndicatorSection> findVisByManufacturer(WMIManufacturer manufacturer) {
+		if (manufacturer == null || manufacturer.getUuid() == null) {
+			return Collections.emptyList();
+		}
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), VehicleIndicatorSection.NAME,
+					"findVisByManufacturer", true);
+			return data.getVisList(manufacturer);
+		}
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			final List<VehicleIndicatorSection> visList = visFinder.query(manufacturer.getId());
+			for (VehicleIndicatorSection vis : visList) {
+				vis.setManufacturer(manufacturer);
+			}
+			return visList;
+		} catch (SQLException e) {
+			log.error("Could not find vis - by manufacturer {0}", e.getMessage());
+			return Collections.emptyList();
+		} finally {
+			DecoderEvents.commitQuery(event, VehicleIndicatorSection.NAME, "findVisByManufacturer", false);
+		}
+	}
+
+	/**
+	 * Finds the manufacturers of the given wmi codes together with their vds
+	 * and vis rows. Every batch of manufacturers is loaded with one query per
+	 * table, instead of one query per section row and manufacturer.
+	 * 
+	 * @param wmiCodes
+	 *            the wmi codes
+	 * @return the sections by wmi code without unknown codes, never null
+	 */
+	public Map<String, ManufacturerSections> findSections(Collection<String> wmiCodes) {
+		final Map<String, ManufacturerSections> sections = new HashMap<String, ManufacturerSections>();
+		if (wmiCodes == null || wmiCodes.isEmpty()) {
+			return sections;
+		}
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMIManufacturer.NAME, "findSections", true);
+			for (String wmiCode : wmiCodes) {
+				final WMIManufacturer manufacturer = data.getManufacturerByWmiCode(wmiCode);
+				if (manufacturer != null) {
+					sections.put(wmiCode, new ManufacturerSections(manufacturer, data.getVdsList(manufacturer),
+							data.getVisList(manufacturer)));
+				}
+			}
+			return sections;
+		}
+		final List<String> codes = new ArrayList<String>(new LinkedHashSet<String>(wmiCodes));
+		try {
+			for (int from = 0; from < codes.size(); from += MAX_BATCH_SIZE) {
+				findSections(codes.subList(from, Math.min(from + MAX_BATCH_SIZE, codes.size())), sections);
+			}
+		} catch (SQLException e) {
+			log.error("Could not find sections - by wmi codes {0}", e.getMessage());
+		}
+		return sections;
+	}
+
+	private void findSections(List<String> wmiCodes, Map<String, ManufacturerSections> sections)
+			throws SQLException {
+		final Object[] args = new Object[wmiCodes.size()];
+		for (int i = 0; i < args.length; i++) {
+			args[i] = new SelectArg(SqlType.STRING, wmiCodes.get(i));
+		}
+		List<WMIManufacturer> manufacturers;
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			manufacturers = manufacturerDao
+					.query(manufacturerDao.queryBuilder().where().in(WMIManufacturer.WMI_CODE, args).prepare());
+		} finally {
+			DecoderEvents.commitQuery(event, WMIManufacturer.NAME, "findSections", false);
+		}
+		if (manufacturers.isEmpty()) {
+			return;
+		}
+		final Map<Integer, WMIManufacturer> byId = new HashMap<Integer, WMIManufacturer>();
+		final StringBuilder ids = new StringBuilder();
+		for (WMIManufacturer manufacturer : manufacturers) {
+			byId.put(manufacturer.getId(), manufacturer);
+			ids.append(ids.length() == 0 ? "" : ",").append(manufacturer.getId());
+		}
+		final String where = " WHERE " + VehicleDescriptorSection.MANUFACTURER + " IN (" + ids + ")";
+		final Map<Integer, List<VehicleDescriptorSection>> vdsGroups = new HashMap<Integer, List<VehicleDescriptorSection>>();
+		for (VehicleDescriptorSection vds : queryVds(where, byId)) {
+			group(vdsGroups, vds.getManufacturer().getId()).add(vds);
+		}
+		final Map<Integer, List<VehicleIndicatorSection>> visGroups = new HashMap<Integer, List<VehicleIndicatorSection>>();
+		for (VehicleIndicatorSection vis : queryVis(where, byId)) {
+			group(visGroups, vis.getManufacturer().getId()).add(vis);
+		}
+		for (WMIManufacturer manufacturer : manufacturers) {
+			sections.put(manufacturer.getWmiCode(), new ManufacturerSections(manufacturer,
+					group(vdsGroups, manufacturer.getId()), group(visGroups, manufacturer.getId())));
+		}
+	}
+
+	/**
+	 * Loads all vds rows with one query and references the given
+	 * manufacturers, rows of unknown manufacturers are skipped.
+	 * 
+	 * @param manufacturers
+	 *            all manufacturers
+	 * @return all vds rows
+	 * @throws SQLException
+	 */
+	List<VehicleDescriptorSection> getVdsList(List<WMIManufacturer> manufacturers) throws SQLException {
+		final List<VehicleDescriptorSection> vdsList = queryVds("", index(manufacturers));
+		vdsList.removeIf(vds -> vds.getManufacturer() == null);
+		return vdsList;
+	}
+
+	/**
+	 * Loads all vis rows with one query and references the given
+	 * manufacturers, rows of unknown manufacturers are skipped.
+	 * 
+	 * @param manufacturers
+	 *            all manufacturers
+	 * @return all vis rows
+	 * @throws SQLException
+	 */
+	List<VehicleIndicatorSection> getVisList(List<WMIManufacturer> manufacturers) throws SQLException {
+		final List<VehicleIndicatorSection> visList = queryVis("", index(manufacturers));
+		visList.removeIf(vis -> vis.getManufacturer() == null);
+		return visList;
+	}
+
+	private List<VehicleDescriptorSection> queryVds(String where, Map<Integer, WMIManufacturer> manufacturers)
+			throws SQLException {
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			return vdsDao.queryRaw(SECTION_COLUMNS + VehicleDescriptorSection.NAME + where, vdsMapper(manufacturers))
+					.getResults();
+		} finally {
+			DecoderEvents.commitQuery(event, VehicleDescriptorSection.NAME, "queryRaw", false);
+		}
+	}
+
+	private List<VehicleIndicatorSection> queryVis(String where, Map<Integer, WMIManufacturer> manufacturers)
+			throws SQLException {
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			return visDao.queryRaw(SECTION_COLUMNS + VehicleIndicatorSection.NAME + where, visMapper(manufacturers))
+					.getResults();
+		} finally {
+			DecoderEvents.commitQuery(event, VehicleIndicatorSection.NAME, "queryRaw", false);
+		}
+	}
+
+	private static RawRowMapper<VehicleDescriptorSection> vdsMapper(
+			final Map<Integer, WMIManufacturer> manufacturers) {
+		return (columns, row) -> {
+			final VehicleDescriptorSection vds = new VehicleDescriptorSection();
+			vds.setId(Integer.parseInt(row[0]));
+			vds.setUuid(row[1]);
+			vds.setManufacturer(manufacturers.get(Integer.valueOf(row[2])));
+			vds.setCode(row[3]);
+			vds.setDescription(row[4]);
+			return vds;
+		};
+	}
+
+	private static RawRowMapper<VehicleIndicatorSection> visMapper(
+			final Map<Integer, WMIManufacturer> manufacturers) {
+		return (columns, row) -> {
+			final VehicleIndicatorSection vis = new VehicleIndicatorSection();
+			vis.setId(Integer.parseInt(row[0]));
+			vis.setUuid(row[1]);
+			vis.setManufacturer(manufacturers.get(Integer.valueOf(row[2])));
+			vis.setCode(row[3]);
+			vis.setDescription(row[4]);
+			return vis;
+		};
+	}
+
+	private static Map<Integer, WMIManufacturer> index(List<WMIManufacturer> manufacturers) {
+		final Map<Integer, WMIManufacturer> index = new HashMap<Integer, WMIManufacturer>(manufacturers.size() * 2);
+		for (WMIManufacturer manufacturer : manufacturers) {
+			index.put(manufacturer.getId(), manufacturer);
+		}
+		return index;
+	}
+
+	private static <T> List<T> group(Map<Integer, List<T>> groups, Integer key) {
+		List<T> group = groups.get(key);
+		if (group == null) {
+			group = new ArrayList<T>();
+			groups.put(key, group);
+		}
+		return group;
+	}
+
+	/**
+	 * Returns all wmi manufacturers, in in-memory mode from the reference data.
+	 * 
+	 * @return all wmi manufacturers, empty if the database can not be read
+	 */
+	public List<WMIManufacturer> getList() {
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMIManufacturer.NAME, "queryForAll", true);
+			return data.getManufacturers();
+		}
+		try {
+			return queryForAll();
+		} catch (SQLException e) {
+			log.error("Could not load wmi manufacturer list - {0}", e.getMessage());
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Loads all wmi manufacturer rows from the database.
+	 * 
+	 * @return all wmi manufacturer rows
+	 * @throws SQLException
+	 */
+	List<WMIManufacturer> queryForAll() throws SQLException {
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			return manufacturerDao.queryForAll();
+		} finally {
+			DecoderEvents.commitQuery(event, WMIManufacturer.NAME, "queryForAll", false);
+		}
+	}
+
+	/**
+	 * Serves all reads from the given in-memory reference data.
+	 * 
+	 * @param referenceData
+	 *            to serve reads from, null to read from the database again
+	 */
+	void setReferenceData(ReferenceData referenceData) {
+		this.referenceData = referenceData;
 	}
 
 }
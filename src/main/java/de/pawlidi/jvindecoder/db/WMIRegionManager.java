@@ -21,10 +21,13 @@ import java.util.List;
 
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
-import com.j256.ormlite.stmt.QueryBuilder;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.DeleteBuilder;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
 
+import de.pawlidi.jvindecoder.jfr.DecoderEvents;
+import de.pawlidi.jvindecoder.model.BaseModel;
 import de.pawlidi.jvindecoder.model.WMIRegion;
 import de.pawlidi.utils.log.ILog;
 import de.pawlidi.utils.log.Logging;
@@ -39,8 +42,10 @@ public final class WMIRegionManager {
 
 	private static final ILog log = Logging.getLog(WMIRegionManager.class);
 
-	private final Dao<WMIRegion, String> regionDao;
-	private final QueryBuilder<WMIRegion, String> regionQueryBuilder;
+	private final Dao<WMIRegion, Integer> regionDao;
+	private final PreparedFinder<WMIRegion> uuidFinder;
+	private final PreparedFinder<WMIRegion> prefixFinder;
+	private volatile ReferenceData referenceData;
 
 	/**
 	 * Package visible default constructor to construct new wmi region manager.
@@ -49,14 +54,32 @@ public final class WMIRegionManager {
 	 * @throws SQLException
 	 */
 	WMIRegionManager(ConnectionSource connection) throws SQLException {
+		this(connection, true);
+	}
+
+	/**
+	 * Package visible constructor to construct new wmi region manager.
+	 * 
+	 * @param connection
+	 * @param createTable
+	 *            true, to create the table if it does not exist
+	 * @throws SQLException
+	 */
+	WMIRegionManager(ConnectionSource connection, boolean createTable) throws SQLException {
 		super();
-		try {
-			TableUtils.createTable(connection, WMIRegion.class);
-		} catch (SQLException e) {
-			log.error("Could not create table {0}", e.getMessage());
+		if (createTable) {
+			try {
+				TableUtils.createTable(connection, WMIRegion.class);
+			} catch (SQLException e) {
+				log.error("Could not create table {0}", e.getMessage());
+			}
 		}
 		regionDao = DaoManager.createDao(connection, WMIRegion.class);
-		regionQueryBuilder = regionDao.queryBuilder();
+		uuidFinder = new PreparedFinder<WMIRegion>(regionDao,
+				(builder, args) -> builder.where().eq(BaseModel.UUID_COLUMN, args[0]).prepare(), SqlType.STRING);
+		prefixFinder = new PreparedFinder<WMIRegion>(regionDao,
+				(builder, args) -> builder.limit(1L).where().raw("? REGEXP " + WMIRegion.REGEX, args[0]).prepare(),
+				SqlType.STRING);
 	}
 
 	/**
@@ -69,6 +92,10 @@ public final class WMIRegionManager {
 		if (region == null || region.getName() == null || region.getWmiRegex() == null || region.getUuid() == null) {
 			return false;
 		}
+		if (isReadOnly()) {
+			return false;
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
 			regionDao.create(region);
 			log.info("Create new wmi region with name {0} and regex {1}", region.getName(), region.getWmiRegex());
@@ -76,6 +103,8 @@ public final class WMIRegionManager {
 		} catch (SQLException e) {
 			log.error("Could not create wmi region - {0}", e.getMessage());
 			return false;
+		} finally {
+			DecoderEvents.commitQuery(event, WMIRegion.TABLE_NAME, "create", false);
 		}
 	}
 
@@ -88,13 +117,21 @@ public final class WMIRegionManager {
 		if (id == null || id.trim().isEmpty()) {
 			return false;
 		}
+		if (isReadOnly()) {
+			return false;
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
-			regionDao.deleteById(id);
+			final DeleteBuilder<WMIRegion, Integer> deleteBuilder = regionDao.deleteBuilder();
+			deleteBuilder.where().eq(BaseModel.UUID_COLUMN, id);
+			deleteBuilder.delete();
 			log.info("Delete new wmi region with id {0} ", id);
 			return true;
 		} catch (SQLException e) {
 			log.error("Could not delete wmi region - {0}", e.getMessage());
 			return false;
+		} finally {
+			DecoderEvents.commitQuery(event, WMIRegion.TABLE_NAME, "deleteByUuid", false);
 		}
 	}
 
@@ -107,6 +144,10 @@ public final class WMIRegionManager {
 		if (region == null) {
 			return false;
 		}
+		if (isReadOnly()) {
+			return false;
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
 			regionDao.delete(region);
 			log.info("Delete wmi region with name {0} and regex {1}", region.getName(), region.getWmiRegex());
@@ -114,6 +155,8 @@ public final class WMIRegionManager {
 		} catch (SQLException e) {
 			log.error("Could not delete wmi region - {0}", e.getMessage());
 			return false;
+		} finally {
+			DecoderEvents.commitQuery(event, WMIRegion.TABLE_NAME, "delete", false);
 		}
 	}
 
@@ -126,6 +169,10 @@ public final class WMIRegionManager {
 		if (region == null) {
 			return false;
 		}
+		if (isReadOnly()) {
+			return false;
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
 			regionDao.update(region);
 			log.info("Update wmi region with name {0} and regex {1}", region.getName(), region.getWmiRegex());
@@ -133,6 +180,8 @@ public final class WMIRegionManager {
 		} catch (SQLException e) {
 			log.error("Could not update wmi region - {0}", e.getMessage());
 			return false;
+		} finally {
+			DecoderEvents.commitQuery(event, WMIRegion.TABLE_NAME, "update", false);
 		}
 	}
 
@@ -145,11 +194,43 @@ public final class WMIRegionManager {
 		if (id == null || id.trim().isEmpty()) {
 			return null;
 		}
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMIRegion.TABLE_NAME, "queryForId", true);
+			return data.getRegion(id);
+		}
+		final Object event = DecoderEvents.beginQuery();
 		try {
-			return regionDao.queryForId(id);
+			return uuidFinder.queryForFirst(id);
 		} catch (SQLException e) {
 			log.error("Could not find wmi region - by id {0}", e.getMessage());
 			return null;
+		} finally {
+			DecoderEvents.commitQuery(event, WMIRegion.TABLE_NAME, "queryForId", false);
+		}
+	}
+
+	/**
+	 * Finds the region of the given first character of a vin.
+	 * 
+	 * @param prefix
+	 *            the first character of a vin
+	 * @return the first region with a regex matching the character or null
+	 */
+	public WMIRegion findByPrefixChar(char prefix) {
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMIRegion.TABLE_NAME, "findByPrefixChar", true);
+			return data.getClassifier().region(prefix);
+		}
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			return prefixFinder.queryForFirst(String.valueOf(prefix));
+		} catch (SQLException e) {
+			log.error("Could not find wmi region - by prefix {0}", e.getMessage());
+			return null;
+		} finally {
+			DecoderEvents.commitQuery(event, WMIRegion.TABLE_NAME, "findByPrefixChar", false);
 		}
 	}
 
@@ -158,12 +239,50 @@ public final class WMIRegionManager {
 	 * @return
 	 */
 	public List<WMIRegion> getList() {
+		final ReferenceData data = referenceData;
+		if (data != null) {
+			DecoderEvents.commitQuery(DecoderEvents.beginQuery(), WMIRegion.TABLE_NAME, "queryForAll", true);
+			return data.getRegions();
+		}
 		try {
-			return regionDao.queryForAll();
+			return queryForAll();
 		} catch (SQLException e) {
 			log.error("Could not load wmi region list - {0}", e.getMessage());
 			return Collections.EMPTY_LIST;
 		}
 	}
 
+	/**
+	 * Loads all wmi region rows from the database.
+	 * 
+	 * @return all wmi region rows
+	 * @throws SQLException
+	 */
+	List<WMIRegion> queryForAll() throws SQLException {
+		final Object event = DecoderEvents.beginQuery();
+		try {
+			return regionDao.queryForAll();
+		} finally {
+			DecoderEvents.commitQuery(event, WMIRegion.TABLE_NAME, "queryForAll", false);
+		}
+	}
+
+	/**
+	 * Serves all reads from the given in-memory reference data, the database
+	 * becomes read-only.
+	 * 
+	 * @param referenceData
+	 *            to serve reads from, null to read from the database again
+	 */
+	void setReferenceData(ReferenceData referenceData) {
+		this.referenceData = referenceData;
+	}
+
+	private boolean isReadOnly() {
+		if (referenceData != null) {
+			log.error("Could not modify wmi region in read-only in-memory mode");
+			return true;
+		}
+		return false;
+	}
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.filter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * One fixed-size bloom filter stage of the {@link VinFilter}. The bits are
+ * kept in an atomic long array, so bits can be set concurrently without locks.
+ * 
+ * @author pawlidim
+ *
+ */
+final class BloomFilterStage {
+
+	private final AtomicLongArray words;
+	private final long bitCount;
+	private final int hashCount;
+	private final long capacity;
+	private final AtomicLong size;
+
+	private BloomFilterStage(AtomicLongArray words, int hashCount, long capacity, long size) {
+		super();
+		this.words = words;
+		this.bitCount = (long) words.length() << 6;
+		this.hashCount = hashCount;
+		this.capacity = capacity;
+		this.size = new AtomicLong(size);
+	}
+
+	/**
+	 * Creates an empty stage with optimal number of bits and hash functions.
+	 * 
+	 * @param capacity
+	 *            the expected number of keys
+	 * @param fpp
+	 *            the false positive probability at the expected number of keys
+	 * @return new stage
+	 */
+	static BloomFilterStage create(long capacity, double fpp) {
+		final double ln2 = Math.log(2);
+		final long bits = Math.max(64, (long) Math.ceil(-capacity * Math.log(fpp) / (ln2 * ln2)));
+		final long wordCount = (bits + 63) >>> 6;
+		if (wordCount > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Bloom filter stage too large for capacity " + capacity);
+		}
+		final int hashCount = Math.max(1, (int) Math.round((double) (wordCount << 6) / capacity * ln2));
+		return new BloomFilterStage(new AtomicLongArray((int) wordCount), hashCount, capacity, 0);
+	}
+
+	boolean mightContain(long hash1, long hash2) {
+		long combined = hash1;
+		for (int i = 0; i < hashCount; i++) {
+			final long bit = (combined & Long.MAX_VALUE) % bitCount;
+			if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+			combined += hash2;
+		}
+		return true;
+	}
+
+	/**
+	 * Sets the bits of the key.
+	 * 
+	 * @return true, if at least one bit has changed
+	 */
+	boolean put(long hash1, long hash2) {
+		boolean changed = false;
+		long combined = hash1;
+		for (int i = 0; i < hashCount; i++) {
+			final long bit = (combined & Long.MAX_VALUE) % bitCount;
+			final int index = (int) (bit >>> 6);
+			final long mask = 1L << bit;
+			long word;
+			while (((word = words.get(index)) & mask) == 0) {
+				if (words.compareAndSet(index, word, word | mask)) {
+					changed = true;
+					break;
+				}
+			}
+			combined += hash2;
+		}
+		if (changed) {
+			size.incrementAndGet();
+		}
+		return changed;
+	}
+
+	boolean isFull() {
+		return size.get() >= capacity;
+	}
+
+	long size() {
+		return size.get();
+	}
+
+	long capacity() {
+		return capacity;
+	}
+
+	long bitCount() {
+		return bitCount;
+	}
+
+	void writeTo(DataOutputStream out) throws IOException {
+		out.writeLong(capacity);
+		out.writeLong(size.get());
+		out.writeInt(hashCount);
+		out.writeInt(words.length());
+		for (int i = 0; i < words.length(); i++) {
+			out.writeLong(words.get(i));
+		}
+	}
+
+	static BloomFilterStage readFrom(DataInputStream in) throws IOException {
+		final long capacity = in.readLong();
+		final long size = in.readLong();
+		final int hashCount = in.readInt();
+		final int wordCount = in.readInt();
+		if (capacity <= 0 || hashCount <= 0 || wordCount <= 0) {
+			throw new IOException("Invalid bloom filter stage");
+		}
+		final AtomicLongArray words = new AtomicLongArray(wordCount);
+		for (int i = 0; i < wordCount; i++) {
+			words.set(i, in.readLong());
+		}
+		return new BloomFilterStage(words, hashCount, capacity, size);
+	}
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.filter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import de.pawlidi.jvindecoder.PackedVin;
+
+/**
+ * Probabilistic set of vins to detect vins which have already been seen. The
+ * filter is a scalable bloom filter: if a stage reaches its capacity, a new
+ * stage with twice the capacity and half the false positive probability is
+ * added, so the total false positive probability stays below the configured
+ * one however many vins are added.
+ * 
+ * <p>
+ * The keys are the packed 17 character codes, codes with invalid characters
+ * are ignored. Lookups and inserts are thread-safe and lock-free, only adding
+ * a stage is synchronized. A vin which has been added is always reported as
+ * contained, a vin which has not been added is reported as contained with the
+ * false positive probability.
+ * </p>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class VinFilter {
+
+	/** Defines the default expected number of vins of the first stage */
+	public static final long DEFAULT_CAPACITY = 1 << 20;
+	/** Defines the default false positive probability */
+	public static final double DEFAULT_FPP = 0.01;
+
+	private static final int MAGIC = 0x56464C54;
+	private static final int VERSION = 1;
+	private static final int GROWTH = 2;
+	private static final double TIGHTENING = 0.5;
+
+	private final double fpp;
+	private volatile BloomFilterStage[] stages;
+
+	/**
+	 * Default constructor to construct a filter with default capacity and
+	 * false positive probability.
+	 */
+	public VinFilter() {
+		this(DEFAULT_CAPACITY, DEFAULT_FPP);
+	}
+
+	/**
+	 * @param capacity
+	 *            the expected number of vins of the first stage
+	 * @param fpp
+	 *            the false positive probability, between 0 and 1 exclusive
+	 */
+	public VinFilter(long capacity, double fpp) {
+		super();
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		if (!(fpp > 0 && fpp < 1)) {
+			throw new IllegalArgumentException("fpp must be between 0 and 1");
+		}
+		this.fpp = fpp;
+		this.stages = new BloomFilterStage[] { BloomFilterStage.create(capacity, fpp * (1 - TIGHTENING)) };
+	}
+
+	private VinFilter(double fpp, BloomFilterStage[] stages) {
+		super();
+		this.fpp = fpp;
+		this.stages = stages;
+	}
+
+	private static long hash1(long high, long low) {
+		return mix(high * 0x9E3779B97F4A7C15L ^ low);
+	}
+
+	private static long hash2(long high, long low) {
+		return mix(low * 0xC2B2AE3D27D4EB4FL + high) | 1;
+	}
+
+	private static long mix(long h) {
+		h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+		h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		return h ^ (h >>> 33);
+	}
+
+	/**
+	 * Adds the given vin, leading and trailing whitespace is ignored.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return true, if the vin has not been seen before, false if it has
+	 *         probably been seen or is not a valid code
+	 */
+	public boolean put(String code) {
+		final String normalized = code == null ? null : code.trim();
+		if (!PackedVin.isPackable(normalized)) {
+			return false;
+		}
+		return put(PackedVin.high(normalized), PackedVin.low(normalized));
+	}
+
+	/**
+	 * @param vin
+	 *            the packed vin, may be null
+	 * @return true, if the vin has not been seen before
+	 * @see #put(String)
+	 */
+	public boolean put(PackedVin vin) {
+		return vin != null && put(vin.getHigh(), vin.getLow());
+	}
+
+	/**
+	 * @param high
+	 *            the high long of the packed vin
+	 * @param low
+	 *            the low long of the packed vin
+	 * @return true, if the vin has not been seen before
+	 * @see #put(String)
+	 */
+	public boolean put(long high, long low) {
+		final long hash1 = hash1(high, low);
+		final long hash2 = hash2(high, low);
+		BloomFilterStage[] current = stages;
+		int checked = 0;
+		while (true) {
+			for (; checked < current.length - 1; checked++) {
+				if (current[checked].mightContain(hash1, hash2)) {
+					return false;
+				}
+			}
+			final BloomFilterStage last = current[current.length - 1];
+			if (!last.isFull()) {
+				return last.put(hash1, hash2);
+			}
+			// the full stage is no longer written, but may hold the vin
+			if (last.mightContain(hash1, hash2)) {
+				return false;
+			}
+			checked = current.length;
+			current = grow(current);
+		}
+	}
+
+	/**
+	 * @return the stages with a new last stage, which may have been added by
+	 *         another thread
+	 */
+	private synchronized BloomFilterStage[] grow(BloomFilterStage[] current) {
+		if (stages == current) {
+			final BloomFilterStage last = current[current.length - 1];
+			final BloomFilterStage[] grown = Arrays.copyOf(current, current.length + 1);
+			grown[current.length] = BloomFilterStage.create(last.capacity() * GROWTH,
+					fpp * (1 - TIGHTENING) * Math.pow(TIGHTENING, current.length));
+			stages = grown;
+		}
+		return stages;
+	}
+
+	/**
+	 * Checks if the given vin has probably been added, leading and trailing
+	 * whitespace is ignored.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return true, if the vin has probably been added
+	 */
+	public boolean mightContain(String code) {
+		final String normalized = code == null ? null : code.trim();
+		if (!PackedVin.isPackable(normalized)) {
+			return false;
+		}
+		return mightContain(PackedVin.high(normalized), PackedVin.low(normalized));
+	}
+
+	/**
+	 * @param vin
+	 *            the packed vin, may be null
+	 * @return true, if the vin has probably been added
+	 */
+	public boolean mightContain(PackedVin vin) {
+		return vin != null && mightContain(vin.getHigh(), vin.getLow());
+	}
+
+	/**
+	 * @param high
+	 *            the high long of the packed vin
+	 * @param low
+	 *            the low long of the packed vin
+	 * @return true, if the vin has probably been added
+	 */
+	public boolean mightContain(long high, long low) {
+		final long hash1 = hash1(high, low);
+		final long hash2 = hash2(high, low);
+		for (BloomFilterStage stage : stages) {
+			if (stage.mightContain(hash1, hash2)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the approximate number of added vins
+	 */
+	public long size() {
+		long size = 0;
+		for (BloomFilterStage stage : stages) {
+			size += stage.size();
+		}
+		return size;
+	}
+
+	/**
+	 * @return the number of bits of all stages
+	 */
+	public long bitCount() {
+		long bits = 0;
+		for (BloomFilterStage stage : stages) {
+			bits += stage.bitCount();
+		}
+		return bits;
+	}
+
+	/**
+	 * @return the configured false positive probability
+	 */
+	public double getFpp() {
+		return fpp;
+	}
+
+	/**
+	 * Writes the filter to the given stream. Concurrent inserts during the write
+	 * may or may not be included.
+	 * 
+	 * @param outputStream
+	 *            the stream, which is not closed
+	 * @throws IOException
+	 *             if the filter could not be written
+	 */
+	public void writeTo(OutputStream outputStream) throws IOException {
+		final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+		final BloomFilterStage[] current = stages;
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeDouble(fpp);
+		out.writeInt(current.length);
+		for (BloomFilterStage stage : current) {
+			stage.writeTo(out);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Reads a filter written by {@link #writeTo(OutputStream)}.
+	 * 
+	 * @param inputStream
+	 *            the stream, which is not closed
+	 * @return the filter
+	 * @throws IOException
+	 *             if the filter could not be read
+	 */
+	public static VinFilter readFrom(InputStream inputStream) throws IOException {
+		final DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+			throw new IOException("Unsupported vin filter format");
+		}
+		final double fpp = in.readDouble();
+		final int stageCount = in.readInt();
+		if (!(fpp > 0 && fpp < 1) || stageCount <= 0) {
+			throw new IOException("Invalid vin filter header");
+		}
+		final BloomFilterStage[] stages = new BloomFilterStage[stageCount];
+		for (int i = 0; i < stageCount; i++) {
+			stages[i] = BloomFilterStage.readFrom(in);
+		}
+		return new VinFilter(fpp, stages);
+	}
+
+}
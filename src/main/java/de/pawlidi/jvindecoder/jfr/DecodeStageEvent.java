@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event of one lookup stage of the vin decoding.
+ * 
+ * @author pawlidim
+ *
+ */
+@Name("de.pawlidi.jvindecoder.DecodeStage")
+@Label("VIN Decode Stage")
+@Category({ "jVinDecoder", "Decode" })
+@Description("Lookup of one section of a VIN")
+final class DecodeStageEvent extends Event {
+
+	@Label("WMI")
+	String wmi;
+
+	@Label("Stage")
+	String stage;
+
+	@Label("Cached")
+	@Description("The section has been taken from a cache")
+	boolean cached;
+}
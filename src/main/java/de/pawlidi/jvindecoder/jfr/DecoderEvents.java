@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.jfr;
+
+import de.pawlidi.jvindecoder.metrics.DecodeStage;
+
+/**
+ * Java Flight Recorder events of the vin decoding and of the database access.
+ * The events are only created while a recording is running, otherwise every
+ * method returns after one volatile read. On runtimes without the
+ * {@code jdk.jfr} module all methods do nothing.
+ * 
+ * <p>
+ * An event is measured as follows:
+ * </p>
+ * 
+ * <pre>
+ * final Object event = DecoderEvents.beginQuery();
+ * final List&lt;WMICountry&gt; list = countryDao.queryForAll();
+ * DecoderEvents.commitQuery(event, "WMI_COUNTRY", "queryForAll", false);
+ * </pre>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class DecoderEvents {
+
+	private static final int WMI_LENGTH = 3;
+	private static final boolean AVAILABLE = isJfrAvailable();
+
+	/**
+	 * Invisible constructor.
+	 */
+	private DecoderEvents() {
+		super();
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			Class.forName("jdk.jfr.FlightRecorder");
+			// registers the recording listener
+			JfrEvents.isRecording();
+			return true;
+		} catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+			return false;
+		}
+	}
+
+	private static String wmi(CharSequence code) {
+		if (code == null) {
+			return null;
+		}
+		return code.subSequence(0, Math.min(WMI_LENGTH, code.length())).toString();
+	}
+
+	/**
+	 * @return true, if a flight recording is running
+	 */
+	public static boolean isRecording() {
+		return AVAILABLE && JfrEvents.isRecording();
+	}
+
+	/**
+	 * Starts the decode event of a vin.
+	 * 
+	 * @return the started event or null if not recording
+	 */
+	public static Object beginDecode() {
+		return AVAILABLE ? JfrEvents.beginDecode() : null;
+	}
+
+	/**
+	 * Commits the decode event of a vin.
+	 * 
+	 * @param event
+	 *            the result of {@link #beginDecode()}
+	 * @param code
+	 *            the vin
+	 * @param cached
+	 *            true, if the vin has been taken from a cache
+	 */
+	public static void commitDecode(Object event, CharSequence code, boolean cached) {
+		if (event != null) {
+			JfrEvents.commitDecode(event, wmi(code), cached);
+		}
+	}
+
+	/**
+	 * Starts the event of a decode stage.
+	 * 
+	 * @return the started event or null if not recording
+	 */
+	public static Object beginStage() {
+		return AVAILABLE ? JfrEvents.beginStage() : null;
+	}
+
+	/**
+	 * Commits the event of a decode stage.
+	 * 
+	 * @param event
+	 *            the result of {@link #beginStage()}
+	 * @param stage
+	 *            the stage
+	 * @param code
+	 *            the vin
+	 * @param cached
+	 *            true, if the section has been taken from a cache
+	 */
+	public static void commitStage(Object event, DecodeStage stage, CharSequence code, boolean cached) {
+		if (event != null) {
+			JfrEvents.commitStage(event, wmi(code), stage.name(), cached);
+		}
+	}
+
+	/**
+	 * Starts the event of a dao call.
+	 * 
+	 * @return the started event or null if not recording
+	 */
+	public static Object beginQuery() {
+		return AVAILABLE ? JfrEvents.beginQuery() : null;
+	}
+
+	/**
+	 * Commits the event of a dao call.
+	 * 
+	 * @param event
+	 *            the result of {@link #beginQuery()}
+	 * @param table
+	 *            the queried table
+	 * @param operation
+	 *            the dao operation
+	 * @param cached
+	 *            true, if the call has been served from the in-memory reference
+	 *            data
+	 */
+	public static void commitQuery(Object event, String table, String operation, boolean cached) {
+		if (event != null) {
+			JfrEvents.commitQuery(event, table, operation, cached);
+		}
+	}
+}
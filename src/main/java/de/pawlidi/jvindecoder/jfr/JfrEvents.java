@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Access to the flight recorder api. This class is only loaded if the runtime
+ * provides the {@code jdk.jfr} module, see {@link DecoderEvents}.
+ * 
+ * @author pawlidim
+ *
+ */
+final class JfrEvents {
+
+	private static volatile boolean recording;
+
+	static {
+		FlightRecorder.addListener(new FlightRecorderListener() {
+			@Override
+			public void recordingStateChanged(Recording changed) {
+				update();
+			}
+		});
+		if (FlightRecorder.isInitialized()) {
+			update();
+		}
+	}
+
+	private static void update() {
+		boolean running = false;
+		for (Recording current : FlightRecorder.getFlightRecorder().getRecordings()) {
+			running |= current.getState() == RecordingState.RUNNING;
+		}
+		recording = running;
+	}
+
+	/**
+	 * Invisible constructor.
+	 */
+	private JfrEvents() {
+		super();
+	}
+
+	static boolean isRecording() {
+		return recording;
+	}
+
+	private static <T extends Event> T begin(T event) {
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	static Object beginDecode() {
+		return recording ? begin(new DecodeEvent()) : null;
+	}
+
+	static Object beginStage() {
+		return recording ? begin(new DecodeStageEvent()) : null;
+	}
+
+	static Object beginQuery() {
+		return recording ? begin(new DaoQueryEvent()) : null;
+	}
+
+	static void commitDecode(Object token, String wmi, boolean cached) {
+		final DecodeEvent event = (DecodeEvent) token;
+		event.end();
+		if (event.shouldCommit()) {
+			event.wmi = wmi;
+			event.cached = cached;
+			event.commit();
+		}
+	}
+
+	static void commitStage(Object token, String wmi, String stage, boolean cached) {
+		final DecodeStageEvent event = (DecodeStageEvent) token;
+		event.end();
+		if (event.shouldCommit()) {
+			event.wmi = wmi;
+			event.stage = stage;
+			event.cached = cached;
+			event.commit();
+		}
+	}
+
+	static void commitQuery(Object token, String table, String operation, boolean cached) {
+		final DaoQueryEvent event = (DaoQueryEvent) token;
+		event.end();
+		if (event.shouldCommit()) {
+			event.table = table;
+			event.operation = operation;
+			event.cached = cached;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.metrics;
+
+/**
+ * Measured stages of the vin decoding.
+ * 
+ * @author pawlidim
+ *
+ */
+public enum DecodeStage {
+
+	/** The complete decoding of a vin */
+	DECODE,
+	/** The validation of the code */
+	VALIDATION,
+	/** The wmi region lookup */
+	REGION,
+	/** The wmi country lookup */
+	COUNTRY,
+	/** The wmi manufacturer lookup */
+	MANUFACTURER,
+	/** The vehicle descriptor section lookup */
+	VDS,
+	/** The vehicle indicator section lookup */
+	VIS,
+	/** The setup of the database connection and the daos */
+	DATABASE_INIT,
+	/** The loading of the reference tables into memory */
+	REFERENCE_DATA_LOAD;
+}
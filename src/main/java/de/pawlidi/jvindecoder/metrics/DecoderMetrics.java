@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import de.pawlidi.utils.log.ILog;
+import de.pawlidi.utils.log.Logging;
+
+/**
+ * Latency histograms and counters of the vin decoding. The measurement is
+ * disabled by default and can be enabled with the system property
+ * {@value #ENABLED_PROPERTY}, programmatically or via JMX. If disabled, a
+ * measuring point costs one volatile read.
+ * 
+ * <p>
+ * A stage is measured as follows:
+ * </p>
+ * 
+ * <pre>
+ * long time = DecoderMetrics.start();
+ * validate(code);
+ * time = DecoderMetrics.record(DecodeStage.VALIDATION, time);
+ * lookupRegion(code);
+ * DecoderMetrics.record(DecodeStage.REGION, time);
+ * </pre>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class DecoderMetrics implements DecoderMetricsMXBean {
+
+	private static final ILog log = Logging.getLog(DecoderMetrics.class);
+
+	/** Defines the system property to enable the metrics on startup */
+	public static final String ENABLED_PROPERTY = "jvindecoder.metrics";
+	/** Defines the JMX object name */
+	public static final String OBJECT_NAME = "de.pawlidi.jvindecoder:type=DecoderMetrics";
+
+	private static final DecoderMetrics INSTANCE = new DecoderMetrics();
+
+	private static volatile boolean enabled;
+
+	private final LatencyHistogram[] histograms;
+	private final LongAdder decodeCount = new LongAdder();
+	private final LongAdder invalidCount = new LongAdder();
+
+	static {
+		if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+			enabled = true;
+			registerMBean();
+		}
+	}
+
+	/**
+	 * Invisible constructor.
+	 */
+	private DecoderMetrics() {
+		super();
+		histograms = new LatencyHistogram[DecodeStage.values().length];
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * @return the metrics instance
+	 */
+	public static DecoderMetrics instance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Registers the metrics at the platform MBean server.
+	 * 
+	 * @return true, if the metrics are registered
+	 */
+	public static boolean registerMBean() {
+		try {
+			final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			final ObjectName name = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(name)) {
+				server.registerMBean(INSTANCE, name);
+			}
+			return true;
+		} catch (JMException e) {
+			log.error("Could not register decoder metrics {0}", e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Unregisters the metrics from the platform MBean server.
+	 */
+	public static void unregisterMBean() {
+		try {
+			final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			final ObjectName name = new ObjectName(OBJECT_NAME);
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException e) {
+			log.error("Could not unregister decoder metrics {0}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Starts a measurement.
+	 * 
+	 * @return the current time or 0 if the metrics are disabled
+	 */
+	public static long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time since the given start time for the stage.
+	 * 
+	 * @param stage
+	 *            the measured stage
+	 * @param start
+	 *            the result of {@link #start()} or of the previous record
+	 * @return the current time as start of the next stage or 0 if the
+	 *         measurement has not been started
+	 */
+	public static long record(DecodeStage stage, long start) {
+		if (start == 0) {
+			return 0;
+		}
+		final long now = System.nanoTime();
+		INSTANCE.histograms[stage.ordinal()].record(now - start);
+		return now;
+	}
+
+	/**
+	 * Counts a decoded or rejected code.
+	 * 
+	 * @param valid
+	 *            false, if the code has been rejected
+	 */
+	public static void count(boolean valid) {
+		if (enabled) {
+			(valid ? INSTANCE.decodeCount : INSTANCE.invalidCount).increment();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.pawlidi.jvindecoder.metrics.DecoderMetricsMXBean#isEnabled()
+	 */
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.pawlidi.jvindecoder.metrics.DecoderMetricsMXBean#setEnabled(boolean)
+	 */
+	@Override
+	public void setEnabled(boolean enabled) {
+		DecoderMetrics.enabled = enabled;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.pawlidi.jvindecoder.metrics.DecoderMetricsMXBean#getDecodeCount()
+	 */
+	@Override
+	public long getDecodeCount() {
+		return decodeCount.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.pawlidi.jvindecoder.metrics.DecoderMetricsMXBean#getInvalidCount()
+	 */
+	@Override
+	public long getInvalidCount() {
+		return invalidCount.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.pawlidi.jvindecoder.metrics.DecoderMetricsMXBean#getStages()
+	 */
+	@Override
+	public List<StageSnapshot> getStages() {
+		return new ArrayList<StageSnapshot>(snapshot().values());
+	}
+
+	/**
+	 * @param stage
+	 *            the stage
+	 * @return the latency statistics of the stage
+	 */
+	public StageSnapshot snapshot(DecodeStage stage) {
+		return histograms[stage.ordinal()].snapshot(stage);
+	}
+
+	/**
+	 * @return the latency statistics of all stages
+	 */
+	public Map<DecodeStage, StageSnapshot> snapshot() {
+		final Map<DecodeStage, StageSnapshot> snapshot = new EnumMap<DecodeStage, StageSnapshot>(DecodeStage.class);
+		for (DecodeStage stage : DecodeStage.values()) {
+			snapshot.put(stage, snapshot(stage));
+		}
+		return Collections.unmodifiableMap(snapshot);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see de.pawlidi.jvindecoder.metrics.DecoderMetricsMXBean#reset()
+	 */
+	@Override
+	public void reset() {
+		for (LatencyHistogram histogram : histograms) {
+			histogram.reset();
+		}
+		decodeCount.reset();
+		invalidCount.reset();
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.metrics;
+
+import java.util.List;
+
+/**
+ * JMX interface of the {@link DecoderMetrics}.
+ * 
+ * @author pawlidim
+ *
+ */
+public interface DecoderMetricsMXBean {
+
+	/**
+	 * @return true, if the decoding is measured
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @param enabled
+	 *            true, to measure the decoding
+	 */
+	void setEnabled(boolean enabled);
+
+	/**
+	 * @return the number of decoded vins
+	 */
+	long getDecodeCount();
+
+	/**
+	 * @return the number of rejected codes
+	 */
+	long getInvalidCount();
+
+	/**
+	 * @return the latency statistics of all stages
+	 */
+	List<StageSnapshot> getStages();
+
+	/**
+	 * Resets all counters and histograms.
+	 */
+	void reset();
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets. Every power of two is
+ * split into 8 linear sub-buckets, so a recorded value is reported with a
+ * relative error below 12.5%. Every bucket is a {@link LongAdder}, so threads
+ * recording the same latency do not contend on one counter. Recording only
+ * allocates once, when a bucket is contended for the first time.
+ * 
+ * @author pawlidim
+ *
+ */
+final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final LongAdder[] counts = new LongAdder[BUCKETS];
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	LatencyHistogram() {
+		super();
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Returns the bucket of the given value. Values below 8 have their own
+	 * bucket, larger values are grouped by the highest bit and the 3 following
+	 * bits.
+	 */
+	static int bucket(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) Math.max(0, value);
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return ((exponent + 1) << SUB_BUCKET_BITS) + (int) ((value >>> exponent) & (SUB_BUCKETS - 1));
+	}
+
+	/**
+	 * Returns the largest value of the given bucket.
+	 */
+	static long upperBound(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		final int exponent = (bucket >>> SUB_BUCKET_BITS) - 1;
+		final long base = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << exponent;
+		return base + (1L << exponent) - 1;
+	}
+
+	void record(long nanos) {
+		counts[bucket(nanos)].increment();
+		count.increment();
+		total.add(nanos);
+		long current;
+		while (nanos > (current = max.get()) && !max.compareAndSet(current, nanos)) {
+			// retry
+		}
+	}
+
+	void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i].reset();
+		}
+		count.reset();
+		total.reset();
+		max.set(0);
+	}
+
+	/**
+	 * Creates a consistent enough snapshot of the histogram. Values recorded
+	 * during the snapshot may be included or not.
+	 */
+	StageSnapshot snapshot(DecodeStage stage) {
+		final long[] snapshot = new long[BUCKETS];
+		long recorded = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts[i].sum();
+			recorded += snapshot[i];
+		}
+		return new StageSnapshot(stage.name(), count.sum(), total.sum(), max.get(),
+				percentile(snapshot, recorded, 0.5), percentile(snapshot, recorded, 0.99),
+				percentile(snapshot, recorded, 0.999));
+	}
+
+	private static long percentile(long[] snapshot, long recorded, double percentile) {
+		if (recorded == 0) {
+			return 0;
+		}
+		final long rank = (long) Math.ceil(percentile * recorded);
+		long seen = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			seen += snapshot[i];
+			if (seen >= rank) {
+				return upperBound(i);
+			}
+		}
+		return upperBound(snapshot.length - 1);
+	}
+}
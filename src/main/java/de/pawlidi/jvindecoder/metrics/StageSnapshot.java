@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Immutable latency statistics of one {@link DecodeStage}. All times are in
+ * nanoseconds, percentiles are upper bounds of the histogram bucket.
+ * 
+ * @author pawlidim
+ *
+ */
+public final class StageSnapshot {
+
+	private final String stage;
+	private final long count;
+	private final long totalNanos;
+	private final long maxNanos;
+	private final long p50Nanos;
+	private final long p99Nanos;
+	private final long p999Nanos;
+
+	/**
+	 * Default constructor to construct the snapshot.
+	 * 
+	 * @param stage
+	 * @param count
+	 * @param totalNanos
+	 * @param maxNanos
+	 * @param p50Nanos
+	 * @param p99Nanos
+	 * @param p999Nanos
+	 */
+	@ConstructorProperties({ "stage", "count", "totalNanos", "maxNanos", "p50Nanos", "p99Nanos", "p999Nanos" })
+	public StageSnapshot(String stage, long count, long totalNanos, long maxNanos, long p50Nanos, long p99Nanos,
+			long p999Nanos) {
+		super();
+		this.stage = stage;
+		this.count = count;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+		this.p50Nanos = p50Nanos;
+		this.p99Nanos = p99Nanos;
+		this.p999Nanos = p999Nanos;
+	}
+
+	/**
+	 * @return the name of the stage
+	 */
+	public String getStage() {
+		return stage;
+	}
+
+	/**
+	 * @return the number of measurements
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the sum of all measurements
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * @return the mean of all measurements, 0 if there is none
+	 */
+	public long getMeanNanos() {
+		return count == 0 ? 0 : totalNanos / count;
+	}
+
+	/**
+	 * @return the largest measurement
+	 */
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	/**
+	 * @return the median
+	 */
+	public long getP50Nanos() {
+		return p50Nanos;
+	}
+
+	/**
+	 * @return the 99th percentile
+	 */
+	public long getP99Nanos() {
+		return p99Nanos;
+	}
+
+	/**
+	 * @return the 99.9th percentile
+	 */
+	public long getP999Nanos() {
+		return p999Nanos;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StageSnapshot<" + stage + "|count=" + count + "|p50=" + p50Nanos + "|p99=" + p99Nanos + "|p999="
+				+ p999Nanos + "|max=" + maxNanos + ">";
+	}
+
+}
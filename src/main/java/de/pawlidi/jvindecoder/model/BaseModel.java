@@ -27,7 +27,14 @@ import com.j256.ormlite.field.DatabaseField;
  */
 public abstract class BaseModel implements Serializable {
 
-	@DatabaseField(id = true, canBeNull = false)
+	/** Defines the primary key column name */
+	public static final String ID = "ID";
+	/** Defines the uuid column name */
+	public static final String UUID_COLUMN = "UUID";
+
+	@DatabaseField(generatedId = true, allowGeneratedIdInsert = true, columnName = ID)
+	protected int id;
+	@DatabaseField(canBeNull = false, uniqueIndex = true, columnName = UUID_COLUMN)
 	protected String uuid;
 
 	BaseModel() {
@@ -35,6 +42,21 @@ public abstract class BaseModel implements Serializable {
 		uuid = UUID.randomUUID().toString();
 	}
 
+	/**
+	 * @return the generated database key, 0 if the row is not stored yet
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * @param id
+	 *            the database key to set, 0 to generate the key on creation
+	 */
+	public void setId(int id) {
+		this.id = id;
+	}
+
 	/**
 	 * @return the uuid
 	 */
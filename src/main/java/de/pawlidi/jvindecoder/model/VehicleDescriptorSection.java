@@ -33,10 +33,11 @@ import com.j256.ormlite.table.DatabaseTable;
 public class VehicleDescriptorSection extends BaseModel {
 
 	/** Defines the database table name */
-	static final String NAME = "VDS";
-	static final String MANUFACTURER = "MANUFACTURER_ID";
+	public static final String NAME = "VDS";
+	/** Defines the manufacturer column name */
+	public static final String MANUFACTURER = "MANUFACTURER_ID";
 
-	@DatabaseField(canBeNull = false, foreign = true, foreignAutoRefresh = true, columnName = MANUFACTURER)
+	@DatabaseField(canBeNull = false, foreign = true, foreignAutoRefresh = true, index = true, columnName = MANUFACTURER)
 	protected WMIManufacturer manufacturer;
 	@DatabaseField(canBeNull = true)
 	protected String code;
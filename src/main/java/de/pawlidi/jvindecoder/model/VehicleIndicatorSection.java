@@ -27,10 +27,11 @@ import com.j256.ormlite.table.DatabaseTable;
 public class VehicleIndicatorSection extends BaseModel {
 
 	/** Defines the database table name */
-	static final String NAME = "VIS";
-	static final String MANUFACTURER = "MANUFACTURER_ID";
+	public static final String NAME = "VIS";
+	/** Defines the manufacturer column name */
+	public static final String MANUFACTURER = "MANUFACTURER_ID";
 
-	@DatabaseField(canBeNull = false, foreign = true, foreignAutoRefresh = true, columnName = MANUFACTURER)
+	@DatabaseField(canBeNull = false, foreign = true, foreignAutoRefresh = true, index = true, columnName = MANUFACTURER)
 	protected WMIManufacturer manufacturer;
 	@DatabaseField(canBeNull = true)
 	protected String code;
@@ -32,13 +32,15 @@ import com.j256.ormlite.table.DatabaseTable;
 public class WMIManufacturer extends BaseModel {
 
 	/** Defines the database table name */
-	static final String NAME = "WMI_MANUFACTURER";
+	public static final String NAME = "WMI_MANUFACTURER";
+	/** Defines the wmi code column name */
+	public static final String WMI_CODE = "WMICODE";
 
 	@DatabaseField(canBeNull = false)
 	private String name;
 	@DatabaseField(canBeNull = true)
 	private String description;
-	@DatabaseField(canBeNull = false)
+	@DatabaseField(canBeNull = false, uniqueIndex = true, columnName = WMI_CODE)
 	private String wmiCode;
 	@ForeignCollectionField(eager = false)
 	private ForeignCollection<VehicleDescriptorSection> vdsSet;
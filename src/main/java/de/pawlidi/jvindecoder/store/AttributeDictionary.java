@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.store;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.pawlidi.jvindecoder.model.BaseModel;
+
+/**
+ * Maps the uuids of reference rows to dense int ids, so that the store only
+ * has to keep an int per attribute and row. The id 0 stands for no value.
+ * 
+ * @author pawlidim
+ *
+ */
+final class AttributeDictionary {
+
+	private final Map<String, Integer> ids = new HashMap<String, Integer>();
+	private final List<String> uuids = new ArrayList<String>();
+
+	AttributeDictionary() {
+		super();
+		uuids.add(null);
+	}
+
+	synchronized int id(BaseModel model) {
+		if (model == null || model.getUuid() == null) {
+			return 0;
+		}
+		Integer id = ids.get(model.getUuid());
+		if (id == null) {
+			id = uuids.size();
+			ids.put(model.getUuid(), id);
+			uuids.add(model.getUuid());
+		}
+		return id;
+	}
+
+	synchronized String uuid(int id) {
+		return id > 0 && id < uuids.size() ? uuids.get(id) : null;
+	}
+}
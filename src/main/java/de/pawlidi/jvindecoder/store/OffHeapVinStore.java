@@ -0,0 +1,377 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import de.pawlidi.jvindecoder.PackedVin;
+import de.pawlidi.jvindecoder.Vin;
+import de.pawlidi.jvindecoder.VinDataFactory;
+import de.pawlidi.utils.log.ILog;
+import de.pawlidi.utils.log.Logging;
+
+/**
+ * Append-only store of decoded vins outside of the java heap. The rows are
+ * kept in chunks of direct or memory-mapped buffers. Inside a chunk every
+ * attribute has its own column: the packed vin as two longs, the ids of
+ * country, region and manufacturer and the model year and plant characters.
+ * The uuids of the reference rows are mapped to small int ids, so the store
+ * needs 30 bytes per row plus 8 to 16 bytes of hash index.
+ * 
+ * <p>
+ * Point lookups use an open addressing hash index, which is also kept off-heap.
+ * If a vin is appended more than once, a lookup returns the first row. The
+ * store is thread-safe, appends are serialized.
+ * </p>
+ * 
+ * @author pawlidim
+ *
+ */
+public final class OffHeapVinStore implements Closeable {
+
+	private static final ILog log = Logging.getLog(OffHeapVinStore.class);
+
+	/** Defines the default number of rows of a chunk */
+	public static final int DEFAULT_CHUNK_CAPACITY = 1 << 20;
+
+	/** Defines the number of bytes of a row */
+	static final int ROW_SIZE = 30;
+
+	private static final int MODEL_YEAR_INDEX = 9;
+	private static final int PLANT_INDEX = 10;
+	private static final int INDEX_PAGE_BITS = 27;
+	private static final int INITIAL_INDEX_SIZE = 1 << 10;
+
+	private final Path directory;
+	private final int chunkCapacity;
+	private final List<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+	private final List<FileChannel> channels = new ArrayList<FileChannel>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	final AttributeDictionary countries = new AttributeDictionary();
+	final AttributeDictionary regions = new AttributeDictionary();
+	final AttributeDictionary manufacturers = new AttributeDictionary();
+
+	private IntBuffer[] index;
+	private long indexMask;
+	private long size;
+
+	/**
+	 * Default constructor to construct a store in direct buffers.
+	 */
+	public OffHeapVinStore() {
+		this(DEFAULT_CHUNK_CAPACITY);
+	}
+
+	/**
+	 * Constructs a store in direct buffers.
+	 * 
+	 * @param chunkCapacity
+	 *            the number of rows of a chunk
+	 */
+	public OffHeapVinStore(int chunkCapacity) {
+		this(null, chunkCapacity);
+	}
+
+	/**
+	 * Constructs a store in memory-mapped files of the given directory. Existing
+	 * chunk files are overwritten, the store always starts empty.
+	 * 
+	 * @param directory
+	 *            the directory of the chunk files, null for direct buffers
+	 * @param chunkCapacity
+	 *            the number of rows of a chunk
+	 */
+	public OffHeapVinStore(Path directory, int chunkCapacity) {
+		super();
+		if (chunkCapacity <= 0 || chunkCapacity > Integer.MAX_VALUE / ROW_SIZE) {
+			throw new IllegalArgumentException("Invalid chunk capacity " + chunkCapacity);
+		}
+		this.directory = directory;
+		this.chunkCapacity = chunkCapacity;
+		createIndex(INITIAL_INDEX_SIZE);
+	}
+
+	/**
+	 * Appends the decoded vin.
+	 * 
+	 * @param vin
+	 *            the decoded vin, may be null
+	 * @return the row of the vin or -1 if the vin has no valid code
+	 * @throws IOException
+	 *             if a mapped chunk could not be created
+	 */
+	public long append(Vin vin) throws IOException {
+		if (vin == null || !PackedVin.isPackable(vin.getCode())) {
+			return -1;
+		}
+		final String code = vin.getCode();
+		final long high = PackedVin.high(code);
+		final long low = PackedVin.low(code);
+		final int country = countries.id(vin.getCountry());
+		final int region = regions.id(vin.getRegion());
+		final int manufacturer = manufacturers.id(vin.getManufacturer());
+		lock.writeLock().lock();
+		try {
+			if (size >= Integer.MAX_VALUE - 1) {
+				throw new IllegalStateException("Store is full");
+			}
+			final long row = size;
+			final int offset = (int) (row % chunkCapacity);
+			if (offset == 0) {
+				chunks.add(createChunk(chunks.size()));
+			}
+			final ByteBuffer chunk = chunks.get(chunks.size() - 1);
+			chunk.putLong(offset << 3, high);
+			chunk.putLong((chunkCapacity << 3) + (offset << 3), low);
+			chunk.putInt((chunkCapacity << 4) + (offset << 2), country);
+			chunk.putInt(chunkCapacity * 20 + (offset << 2), region);
+			chunk.putInt(chunkCapacity * 24 + (offset << 2), manufacturer);
+			chunk.put(chunkCapacity * 28 + offset, (byte) code.charAt(MODEL_YEAR_INDEX));
+			chunk.put(chunkCapacity * 29 + offset, (byte) code.charAt(PLANT_INDEX));
+			size++;
+			if ((size << 1) > indexMask + 1) {
+				createIndex((indexMask + 1) << 1);
+			} else {
+				insert(row, high, low);
+			}
+			return row;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Decodes and appends the given code.
+	 * 
+	 * @param code
+	 *            the vin, may be null
+	 * @return the row of the vin or -1 if the code is not a valid vin
+	 * @throws IOException
+	 *             if a mapped chunk could not be created
+	 */
+	public long append(String code) throws IOException {
+		return append(VinDataFactory.decode(code));
+	}
+
+	/**
+	 * @param code
+	 *            the vin, may be null
+	 * @return the first row of the vin or -1 if not found
+	 */
+	public long find(CharSequence code) {
+		if (!PackedVin.isPackable(code)) {
+			return -1;
+		}
+		return find(PackedVin.high(code), PackedVin.low(code));
+	}
+
+	/**
+	 * @param vin
+	 *            the packed vin, may be null
+	 * @return the first row of the vin or -1 if not found
+	 */
+	public long find(PackedVin vin) {
+		return vin == null ? -1 : find(vin.getHigh(), vin.getLow());
+	}
+
+	/**
+	 * @param high
+	 *            the high long of the packed vin
+	 * @param low
+	 *            the low long of the packed vin
+	 * @return the first row of the vin or -1 if not found
+	 */
+	public long find(long high, long low) {
+		lock.readLock().lock();
+		try {
+			long slot = PackedVin.hash(high, low) & indexMask;
+			int stored;
+			while ((stored = slot(slot)) != 0) {
+				final long row = stored - 1;
+				if (high(row) == high && low(row) == low) {
+					return row;
+				}
+				slot = (slot + 1) & indexMask;
+			}
+			return -1;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return new cursor to read rows of this store
+	 */
+	public VinStoreCursor cursor() {
+		return new VinStoreCursor(this);
+	}
+
+	/**
+	 * Reads the given row into the cursor.
+	 * 
+	 * @param row
+	 *            the row
+	 * @param cursor
+	 *            the cursor of this store
+	 * @return false, if the row does not exist
+	 */
+	public boolean read(long row, VinStoreCursor cursor) {
+		lock.readLock().lock();
+		try {
+			if (row < 0 || row >= size) {
+				return false;
+			}
+			load(row, cursor);
+			return true;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Passes all rows in order to the consumer. The same cursor instance is
+	 * reused for every row. Appends are blocked during the scan.
+	 * 
+	 * @param consumer
+	 *            the receiver of the rows
+	 */
+	public void scan(Consumer<VinStoreCursor> consumer) {
+		final VinStoreCursor cursor = cursor();
+		lock.readLock().lock();
+		try {
+			for (long row = 0; row < size; row++) {
+				load(row, cursor);
+				consumer.accept(cursor);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return number of rows
+	 */
+	public long size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Releases the buffers and closes the chunk files.
+	 */
+	@Override
+	public void close() throws IOException {
+		lock.writeLock().lock();
+		try {
+			IOException exception = null;
+			for (FileChannel channel : channels) {
+				try {
+					channel.close();
+				} catch (IOException e) {
+					log.error("Cannot close chunk file {0}", e.getMessage());
+					exception = e;
+				}
+			}
+			channels.clear();
+			chunks.clear();
+			size = 0;
+			createIndex(INITIAL_INDEX_SIZE);
+			if (exception != null) {
+				throw exception;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private ByteBuffer createChunk(int number) throws IOException {
+		final int bytes = chunkCapacity * ROW_SIZE;
+		if (directory == null) {
+			return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+		}
+		Files.createDirectories(directory);
+		final FileChannel channel = FileChannel.open(directory.resolve(String.format("chunk-%05d.col", number)),
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		channels.add(channel);
+		return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes).order(ByteOrder.nativeOrder());
+	}
+
+	private void createIndex(long slots) {
+		final int pageSize = (int) Math.min(slots, 1L << INDEX_PAGE_BITS);
+		index = new IntBuffer[(int) (slots / pageSize)];
+		for (int i = 0; i < index.length; i++) {
+			index[i] = ByteBuffer.allocateDirect(pageSize << 2).order(ByteOrder.nativeOrder()).asIntBuffer();
+		}
+		indexMask = slots - 1;
+		for (long row = 0; row < size; row++) {
+			insert(row, high(row), low(row));
+		}
+	}
+
+	private void insert(long row, long high, long low) {
+		long slot = PackedVin.hash(high, low) & indexMask;
+		int stored;
+		while ((stored = slot(slot)) != 0) {
+			final long other = stored - 1;
+			if (high(other) == high && low(other) == low) {
+				return;
+			}
+			slot = (slot + 1) & indexMask;
+		}
+		index[(int) (slot >>> INDEX_PAGE_BITS)].put((int) (slot & ((1 << INDEX_PAGE_BITS) - 1)), (int) row + 1);
+	}
+
+	private int slot(long slot) {
+		return index[(int) (slot >>> INDEX_PAGE_BITS)].get((int) (slot & ((1 << INDEX_PAGE_BITS) - 1)));
+	}
+
+	private long high(long row) {
+		return chunks.get((int) (row / chunkCapacity)).getLong((int) (row % chunkCapacity) << 3);
+	}
+
+	private long low(long row) {
+		return chunks.get((int) (row / chunkCapacity))
+				.getLong((chunkCapacity << 3) + ((int) (row % chunkCapacity) << 3));
+	}
+
+	private void load(long row, VinStoreCursor cursor) {
+		final ByteBuffer chunk = chunks.get((int) (row / chunkCapacity));
+		final int offset = (int) (row % chunkCapacity);
+		cursor.set(row, chunk.getLong(offset << 3), chunk.getLong((chunkCapacity << 3) + (offset << 3)),
+				chunk.getInt((chunkCapacity << 4) + (offset << 2)), chunk.getInt(chunkCapacity * 20 + (offset << 2)),
+				chunk.getInt(chunkCapacity * 24 + (offset << 2)), (char) chunk.get(chunkCapacity * 28 + offset),
+				(char) chunk.get(chunkCapacity * 29 + offset));
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.store;
+
+import de.pawlidi.jvindecoder.PackedVin;
+
+/**
+ * Reusable view of one row of an {@link OffHeapVinStore}. The values are
+ * copied from the off-heap columns, when the cursor is positioned.
+ * 
+ * @author pawlidim
+ *
+ */
+public final class VinStoreCursor {
+
+	private final OffHeapVinStore store;
+	private long row = -1;
+	private long high;
+	private long low;
+	private int countryId;
+	private int regionId;
+	private int manufacturerId;
+	private char modelYear;
+	private char plant;
+
+	VinStoreCursor(OffHeapVinStore store) {
+		super();
+		this.store = store;
+	}
+
+	void set(long row, long high, long low, int countryId, int regionId, int manufacturerId, char modelYear,
+			char plant) {
+		this.row = row;
+		this.high = high;
+		this.low = low;
+		this.countryId = countryId;
+		this.regionId = regionId;
+		this.manufacturerId = manufacturerId;
+		this.modelYear = modelYear;
+		this.plant = plant;
+	}
+
+	/**
+	 * @return the row, -1 if the cursor has not been positioned
+	 */
+	public long getRow() {
+		return row;
+	}
+
+	/**
+	 * @return the high long of the packed vin
+	 */
+	public long getHigh() {
+		return high;
+	}
+
+	/**
+	 * @return the low long of the packed vin
+	 */
+	public long getLow() {
+		return low;
+	}
+
+	/**
+	 * @return new packed vin of the row
+	 */
+	public PackedVin getPackedVin() {
+		return new PackedVin(high, low);
+	}
+
+	/**
+	 * @return the store local id of the country, 0 if unknown
+	 */
+	public int getCountryId() {
+		return countryId;
+	}
+
+	/**
+	 * @return the uuid of the country or null
+	 */
+	public String getCountryUuid() {
+		return store.countries.uuid(countryId);
+	}
+
+	/**
+	 * @return the store local id of the region, 0 if unknown
+	 */
+	public int getRegionId() {
+		return regionId;
+	}
+
+	/**
+	 * @return the uuid of the region or null
+	 */
+	public String getRegionUuid() {
+		return store.regions.uuid(regionId);
+	}
+
+	/**
+	 * @return the store local id of the manufacturer, 0 if unknown
+	 */
+	public int getManufacturerId() {
+		return manufacturerId;
+	}
+
+	/**
+	 * @return the uuid of the manufacturer or null
+	 */
+	public String getManufacturerUuid() {
+		return store.manufacturers.uuid(manufacturerId);
+	}
+
+	/**
+	 * @return the model year character at position 10
+	 */
+	public char getModelYear() {
+		return modelYear;
+	}
+
+	/**
+	 * @return the plant character at position 11
+	 */
+	public char getPlant() {
+		return plant;
+	}
+
+}
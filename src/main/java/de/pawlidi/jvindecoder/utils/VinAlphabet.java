@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.utils;
+
+/**
+ * Static lookup tables for the characters which may appear in a VIN. The
+ * alphanumeric index maps the characters {@code 0-9} and {@code A-Z} to the
+ * dense range {@code 0..35}, so that lookup structures can be plain arrays.
+ * The transliteration table maps every character to its ISO 3779 check digit
+ * value.
+ *
+ * @author pawlidim
+ *
+ */
+public final class VinAlphabet {
+
+	/** Number of alphanumeric characters (0-9, A-Z) */
+	public static final int SIZE = 36;
+
+	/** Defines the transliteration value of characters not allowed in a VIN */
+	public static final int INVALID = -1;
+	/** Defines the transliteration value of the letters I, O and Q */
+	public static final int FORBIDDEN = -2;
+
+	private static final byte[] INDEX = new byte[128];
+	private static final byte[] VALUE = new byte[128];
+
+	static {
+		for (int i = 0; i < INDEX.length; i++) {
+			INDEX[i] = -1;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			INDEX[c] = (byte) (c - '0');
+		}
+		for (char c = 'A'; c <= 'Z'; c++) {
+			INDEX[c] = (byte) (c - 'A' + 10);
+		}
+		for (int i = 0; i < VALUE.length; i++) {
+			VALUE[i] = INVALID;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			VALUE[c] = (byte) (c - '0');
+		}
+		final String letters = "ABCDEFGHJKLMNPRSTUVWXYZ";
+		final int[] values = { 1, 2, 3, 4, 5, 6, 7, 8, 1, 2, 3, 4, 5, 7, 9, 2, 3, 4, 5, 6, 7, 8, 9 };
+		for (int i = 0; i < letters.length(); i++) {
+			VALUE[letters.charAt(i)] = (byte) values[i];
+		}
+		VALUE['I'] = FORBIDDEN;
+		VALUE['O'] = FORBIDDEN;
+		VALUE['Q'] = FORBIDDEN;
+	}
+
+	/**
+	 * Invisible constructor.
+	 */
+	private VinAlphabet() {
+		super();
+	}
+
+	/**
+	 * Returns the alphanumeric index of the given character.
+	 *
+	 * <pre>
+	 * VinAlphabet.index('0') = 0
+	 * VinAlphabet.index('9') = 9
+	 * VinAlphabet.index('A') = 10
+	 * VinAlphabet.index('Z') = 35
+	 * VinAlphabet.index('a') = -1
+	 * </pre>
+	 *
+	 * @param c
+	 *            the character to look up
+	 * @return index in range {@code 0..35}, -1 if the character is not an upper
+	 *         case letter or digit
+	 */
+	public static int index(final char c) {
+		return c < 128 ? INDEX[c] : -1;
+	}
+
+	/**
+	 * Returns the ISO 3779 transliteration value of the given character.
+	 *
+	 * <pre>
+	 * VinAlphabet.value('7') = 7
+	 * VinAlphabet.value('A') = 1
+	 * VinAlphabet.value('Z') = 9
+	 * VinAlphabet.value('O') = VinAlphabet.FORBIDDEN
+	 * VinAlphabet.value('a') = VinAlphabet.INVALID
+	 * </pre>
+	 *
+	 * @param c
+	 *            the character to look up
+	 * @return value in range {@code 0..9}, {@link #FORBIDDEN} for I, O and Q,
+	 *         {@link #INVALID} for all other characters
+	 */
+	public static int value(final char c) {
+		return c < 128 ? VALUE[c] : INVALID;
+	}
+
+	/**
+	 * Returns the character for the given alphanumeric index.
+	 *
+	 * @param index
+	 *            in range {@code 0..35}
+	 * @return the character
+	 */
+	public static char charAt(final int index) {
+		return (char) (index < 10 ? '0' + index : 'A' + index - 10);
+	}
+}
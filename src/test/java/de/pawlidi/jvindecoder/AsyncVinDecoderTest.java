@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import de.pawlidi.jvindecoder.db.ReferenceData;
+
+public class AsyncVinDecoderTest {
+
+	@BeforeAll
+	public static void setup() {
+		VinDataFactory.setReferenceData(new ReferenceData(WMIClassifierTest.REGIONS, WMIClassifierTest.COUNTRIES,
+				WMIManufacturerIndexTest.MANUFACTURERS, null, null));
+	}
+
+	@AfterAll
+	public static void tearDown() {
+		VinDataFactory.setReferenceData(null);
+	}
+
+	@Test
+	public void decodeTest() throws Exception {
+		try (AsyncVinDecoder decoder = new AsyncVinDecoder()) {
+			assertEquals("Opel", decoder.decode("W0L000051T2123456").get().getManufacturer().getName());
+			assertNull(decoder.decode("invalid").get());
+			final List<String> codes = new ArrayList<String>();
+			for (int i = 0; i < 3000; i++) {
+				codes.add(String.format("W0L000051T2%06d", i));
+			}
+			final List<Vin> vins = decoder.decodeAll(codes).get();
+			assertEquals(codes.size(), vins.size());
+			for (int i = 0; i < codes.size(); i++) {
+				assertEquals(codes.get(i), vins.get(i).getCode());
+			}
+			assertTrue(decoder.decodeAll(null).get().isEmpty());
+		}
+	}
+
+	@Test
+	public void pendingLimitTest() throws Exception {
+		final ExecutorService executor = AsyncVinDecoder.newBoundedExecutor(1, 10);
+		final CountDownLatch latch = new CountDownLatch(1);
+		try (AsyncVinDecoder decoder = new AsyncVinDecoder(executor, 1)) {
+			executor.execute(() -> {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			final CompletableFuture<Vin> pending = decoder.decode("W0L000051T2123456");
+			// the caller is not blocked, the task above the limit is rejected
+			final ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> decoder.decode("W0L000051T2123456").get());
+			assertTrue(exception.getCause() instanceof RejectedExecutionException);
+			latch.countDown();
+			assertEquals("Opel", pending.get().getManufacturer().getName());
+			assertEquals("Opel", decoder.decode("W0L000051T2123456").get().getManufacturer().getName());
+		} finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void rejectTest() throws Exception {
+		final ExecutorService executor = AsyncVinDecoder.newBoundedExecutor(1, 1);
+		final CountDownLatch latch = new CountDownLatch(1);
+		try (AsyncVinDecoder decoder = new AsyncVinDecoder(executor)) {
+			executor.execute(() -> {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			executor.execute(() -> {
+			});
+			final ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> decoder.decode("W0L000051T2123456").get());
+			assertTrue(exception.getCause() instanceof RejectedExecutionException);
+		} finally {
+			latch.countDown();
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+public class ModelYearTest {
+
+	@Test
+	public void baseYearTest() {
+		assertEquals(1980, ModelYear.baseYear('A'));
+		assertEquals(1988, ModelYear.baseYear('J'));
+		assertEquals(2000, ModelYear.baseYear('Y'));
+		assertEquals(2001, ModelYear.baseYear('1'));
+		assertEquals(2009, ModelYear.baseYear('9'));
+		assertEquals(ModelYear.UNKNOWN, ModelYear.baseYear('U'));
+		assertEquals(ModelYear.UNKNOWN, ModelYear.baseYear('0'));
+		assertEquals(ModelYear.UNKNOWN, ModelYear.baseYear('\u00c4'));
+	}
+
+	@Test
+	public void decodeTest() {
+		assertEquals(1989, ModelYear.decode("1M8GDM9AXKP042788"));
+		assertEquals(2019, ModelYear.decode("1M8GDMAAXKP042788"));
+		assertEquals(ModelYear.UNKNOWN, ModelYear.decode("1M8GDM*AXKP042788"));
+		assertEquals(1996, ModelYear.decode("W0L000051T2123456", 2025));
+		assertEquals(2026, ModelYear.decode("W0L000051T2123456", 2026));
+		assertEquals(2009, ModelYear.decode("W0L00005192123456", 2025));
+		assertEquals(ModelYear.UNKNOWN, ModelYear.decode("W0L000051U2123456"));
+		assertEquals(ModelYear.UNKNOWN, ModelYear.decode("W0L"));
+		assertEquals(ModelYear.UNKNOWN, ModelYear.decode(null));
+		assertEquals(1996, ModelYear.decode("W0L000051T2123456",
+				Clock.fixed(Instant.parse("2024-12-31T12:00:00Z"), ZoneOffset.UTC)));
+		assertEquals(2026, ModelYear.decode("W0L000051T2123456",
+				Clock.fixed(Instant.parse("2025-01-01T12:00:00Z"), ZoneOffset.UTC)));
+		assertEquals(ModelYear.decode("W0L000051T2123456", Clock.systemDefaultZone()),
+				ModelYear.decode("W0L000051T2123456"));
+		assertEquals(1989, new Vin("1M8GDM9AXKP042788").getModelYear());
+	}
+}
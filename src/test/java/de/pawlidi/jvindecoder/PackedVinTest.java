@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PackedVinTest {
+
+	@Test
+	public void testPack() {
+		final PackedVin packed = PackedVin.of("W0L000051T2123456");
+		assertEquals("W0L000051T2123456", packed.toString());
+		assertEquals(packed, PackedVin.of(new Vin("W0L000051T2123456")));
+		assertEquals(packed, new PackedVin(packed.getHigh(), packed.getLow()));
+		assertEquals(packed.hashCode(), PackedVin.of("W0L000051T2123456").hashCode());
+		assertNotEquals(packed, PackedVin.of("W0L000051T2123457"));
+		assertEquals("ZZZZZZZZZZZZZZZZZ", PackedVin.of("ZZZZZZZZZZZZZZZZZ").toString());
+	}
+
+	@Test
+	public void testInvalid() {
+		assertNull(PackedVin.of((String) null));
+		assertNull(PackedVin.of((Vin) null));
+		assertNull(PackedVin.of("W0L000051T212345"));
+		assertNull(PackedVin.of("W0L000051T212345O"));
+		assertNull(PackedVin.of("w0L000051T2123456"));
+		assertFalse(PackedVin.isPackable("W0L000051T2I23456"));
+		assertTrue(PackedVin.isPackable("1M8GDM9AXKP042788"));
+		final PackedVin packed = PackedVin.of("W0L000051T2123456");
+		// character code 33 and bits above the 17 characters
+		assertThrows(IllegalArgumentException.class, () -> new PackedVin(packed.getHigh() | 0x3F, packed.getLow()));
+		assertThrows(IllegalArgumentException.class, () -> new PackedVin(packed.getHigh(), packed.getLow() | 1L << 42));
+		assertThrows(IllegalArgumentException.class, () -> new PackedVin(-1L, packed.getLow()));
+	}
+
+	@Test
+	public void testOrder() {
+		final List<String> codes = new ArrayList<String>();
+		codes.add("ZZZZZZZZZZZZZZZZZ");
+		codes.add("W0L000051T2123456");
+		codes.add("1M8GDM9AXKP042788");
+		codes.add("W0L000051T2123457");
+		codes.add("00000000000000000");
+		codes.add("WF9000051T2ABC456");
+		final List<PackedVin> packed = new ArrayList<PackedVin>();
+		for (String code : codes) {
+			packed.add(PackedVin.of(code));
+		}
+		Collections.sort(codes);
+		Collections.sort(packed);
+		for (int i = 0; i < codes.size(); i++) {
+			assertEquals(codes.get(i), packed.get(i).toString());
+		}
+	}
+}
@@ -15,20 +15,85 @@
  */
 package de.pawlidi.jvindecoder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import de.pawlidi.jvindecoder.cache.TinyLfuCache;
+import de.pawlidi.jvindecoder.db.ReferenceData;
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+
 public class VinDataFactoryTest {
 
 	private static final String VALID_VIN = "W0L000051T2123456";
 
+	@BeforeAll
+	public static void setup() {
+		VinDataFactory.setReferenceData(new ReferenceData(WMIClassifierTest.REGIONS, WMIClassifierTest.COUNTRIES,
+				WMIManufacturerIndexTest.MANUFACTURERS,
+				Arrays.asList(vds("0000", "Short"), vds("00005", "Long"), vds("1", "Other")),
+				Arrays.asList(vis("T", "Plant"))));
+	}
+
+	private static VehicleDescriptorSection vds(String code, String description) {
+		final VehicleDescriptorSection vds = new VehicleDescriptorSection();
+		vds.setManufacturer(WMIManufacturerIndexTest.OPEL);
+		vds.setCode(code);
+		vds.setDescription(description);
+		return vds;
+	}
+
+	private static VehicleIndicatorSection vis(String code, String description) {
+		final VehicleIndicatorSection vis = new VehicleIndicatorSection();
+		vis.setManufacturer(WMIManufacturerIndexTest.OPEL);
+		vis.setCode(code);
+		vis.setDescription(description);
+		return vis;
+	}
+
 	@Test
 	public void isValidVIN() {
 		assertTrue(VinDataFactory.isValidVIN(VALID_VIN));
 		assertFalse(VinDataFactory.isValidVIN(VALID_VIN + "cas"));
+		assertTrue(VinDataFactory.isValidVIN(" " + VALID_VIN + "\n"));
+		assertFalse(VinDataFactory.isValidVIN("                 "));
+		assertFalse(VinDataFactory.isValidVIN(null));
+	}
+
+	@Test
+	public void validate() {
+		assertEquals(VinValidation.VALID, VinDataFactory.validate("1M8GDM9AXKP042788"));
+		assertEquals(VinValidation.VALID, VinDataFactory.validate("11111111111111111"));
+		assertEquals(VinValidation.VALID, VinDataFactory.validate(new StringBuilder("1M8GDM9AXKP042788")));
+		assertEquals(VinValidation.INVALID_CHECK_DIGIT, VinDataFactory.validate(VALID_VIN));
+		assertEquals(VinValidation.VALID, VinDataFactory.validate(VALID_VIN, false));
+		assertEquals(VinValidation.FORBIDDEN_CHARACTER, VinDataFactory.validate("1M8GDM9AXKP04278O"));
+		assertEquals(VinValidation.INVALID_CHARACTER, VinDataFactory.validate("1m8GDM9AXKP042788"));
+		assertEquals(VinValidation.INVALID_CHARACTER, VinDataFactory.validate("1M8GDM9AXKP04278-"));
+		assertEquals(VinValidation.INVALID_LENGTH, VinDataFactory.validate(VALID_VIN + "cas"));
+		assertEquals(VinValidation.BLANK, VinDataFactory.validate(""));
+		assertEquals(VinValidation.BLANK, VinDataFactory.validate(null));
+		assertFalse(VinDataFactory.validate(null).isValid());
 	}
 
 	@Test
@@ -37,16 +102,167 @@ public class VinDataFactoryTest {
 		System.out.println(VinDataFactory.extractWMI(VALID_VIN));
 	}
 
-	// @Test
-	// public void decodeRegion() {
-	// assertNotNull(VinDataFactory.decodeRegion(VALID_VIN));
-	// System.out.println(VinDataFactory.decodeRegion(VALID_VIN));
-	// }
-	//
-	// @Test
-	// public void decodeCountry() {
-	// assertNotNull(VinDataFactory.decodeCountry(VALID_VIN));
-	// System.out.println(VinDataFactory.decodeCountry(VALID_VIN));
-	// }
+	@Test
+	public void decodeRegion() {
+		assertEquals("Europe", VinDataFactory.decodeRegion(VALID_VIN).getName());
+		assertEquals("Europe", VinDataFactory.decodeRegion(" " + VALID_VIN).getName());
+		assertNull(VinDataFactory.decodeRegion(VALID_VIN + "cas"));
+	}
+
+	@Test
+	public void decodeCountry() {
+		assertEquals("Germany", VinDataFactory.decodeCountry(VALID_VIN).getName());
+		assertEquals("Germany", VinDataFactory.decodeCountry(" " + VALID_VIN).getName());
+		assertNull(VinDataFactory.decodeCountry(VALID_VIN + "cas"));
+	}
+
+	@Test
+	public void decode() {
+		final Vin vin = VinDataFactory.decode(" " + VALID_VIN);
+		assertEquals(VALID_VIN, vin.getCode());
+		assertEquals("Europe", vin.getRegion().getName());
+		assertEquals("Germany", vin.getCountry().getName());
+		assertEquals("Opel", vin.getManufacturer().getName());
+		assertEquals("Long", vin.getVds().getDescription());
+		assertEquals("Plant", vin.getVis().getDescription());
+		assertNull(VinDataFactory.decode(VALID_VIN + "cas"));
+	}
+
+	@Test
+	public void decodeAll() {
+		final List<String> codes = new ArrayList<String>();
+		for (int i = 0; i < 5000; i++) {
+			codes.add(i % 7 == 0 ? "invalid" : String.format("W0L000051T2%06d", i));
+		}
+		final List<Vin> vins = VinDataFactory.decodeAll(codes, new ForkJoinPool(4));
+		assertEquals(codes.size(), vins.size());
+		for (int i = 0; i < codes.size(); i++) {
+			if (i % 7 == 0) {
+				assertNull(vins.get(i));
+			} else {
+				assertEquals(codes.get(i), vins.get(i).getCode());
+				assertEquals("Opel", vins.get(i).getManufacturer().getName());
+			}
+		}
+		assertEquals(vins, VinDataFactory.decodeAll(codes.stream(), new ForkJoinPool(2)));
+		assertEquals(vins, VinDataFactory.decodeAll(codes.stream()).collect(Collectors.toList()));
+		assertTrue(VinDataFactory.decodeAll((List<String>) null).isEmpty());
+	}
+
+	@Test
+	public void decodeManufacturer() {
+		assertEquals("Opel", VinDataFactory.decodeManufacturer(VALID_VIN).getName());
+		assertEquals("Opel", VinDataFactory.decodeManufacturer(" " + VALID_VIN + " ").getName());
+		assertNull(VinDataFactory.decodeManufacturer(VALID_VIN + "cas"));
+	}
+
+	@Test
+	public void decodeProjection() {
+		final Vin vin = VinDataFactory.decode(VALID_VIN, EnumSet.of(VinField.REGION, VinField.VIS));
+		assertEquals("Europe", vin.getRegion().getName());
+		assertEquals("Plant", vin.getVis().getDescription());
+		assertNull(vin.getCountry());
+		assertNull(vin.getManufacturer());
+		assertNull(vin.getVds());
+		assertEquals('2', vin.getPlant());
+
+		assertNotNull(VinDataFactory.decode(VALID_VIN, EnumSet.noneOf(VinField.class)));
+		assertNull(VinDataFactory.decode(VALID_VIN, EnumSet.of(VinField.CHECK_DIGIT)));
+		assertNotNull(VinDataFactory.decode("1M8GDM9AXKP042788", EnumSet.of(VinField.CHECK_DIGIT)));
+		assertNull(VinDataFactory.decode(VALID_VIN + "cas", EnumSet.allOf(VinField.class)));
+	}
+
+	@Test
+	public void decodeLazy() {
+		final Vin vin = VinDataFactory.decodeLazy(" " + VALID_VIN);
+		assertEquals(VALID_VIN, vin.getCode());
+		assertEquals("Germany", vin.getCountry().getName());
+		assertEquals("Plant", vin.getVis().getDescription());
+		assertEquals("Opel", vin.getManufacturer().getName());
+		assertEquals("Long", vin.getVds().getDescription());
+		assertEquals("Europe", vin.getRegion().getName());
+		assertEquals(VinDataFactory.decode(VALID_VIN), vin);
+		assertNull(VinDataFactory.decodeLazy(VALID_VIN + "cas"));
+
+		final Vin overridden = VinDataFactory.decodeLazy(VALID_VIN);
+		overridden.setManufacturer(null);
+		assertNull(overridden.getManufacturer());
+		assertNull(overridden.getVds());
+	}
+
+	@Test
+	public void serializeLazy() throws Exception {
+		final Vin vin = VinDataFactory.decodeLazy(VALID_VIN);
+		vin.setVds(null);
+		vin.setVis(null);
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(vin);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			final Vin copy = (Vin) in.readObject();
+			assertEquals("Opel", copy.getManufacturer().getName());
+			assertEquals("Europe", copy.getRegion().getName());
+			assertNull(copy.getVds());
+		}
+	}
+
+	@Test
+	public void decodeCached() {
+		VinDataFactory.enableCache(100);
+		try {
+			final Vin vin = VinDataFactory.decode(VALID_VIN);
+			assertSame(vin, VinDataFactory.decode(" " + VALID_VIN + " "));
+			assertEquals(1, VinDataFactory.getCache().getHitCount());
+			assertEquals(1, VinDataFactory.getCache().getMissCount());
+			assertNull(VinDataFactory.decode(VALID_VIN + "cas"));
+		} finally {
+			VinDataFactory.disableCache();
+		}
+		assertNull(VinDataFactory.getCache());
+	}
+
+	@Test
+	public void decodeCachedSnapshot() {
+		final ReferenceData data = VinDataFactory.getReferenceData();
+		VinDataFactory.enableCache(100);
+		VinDataFactory.enablePrefixCache(100);
+		try {
+			final Vin vin = VinDataFactory.decode(VALID_VIN);
+			assertNotNull(vin.getVds());
+			final TinyLfuCache<String, Vin> cache = VinDataFactory.getCache();
+			VinDataFactory.setReferenceData(new ReferenceData(data.getRegions(), data.getCountries(),
+					data.getManufacturers(), Collections.emptyList(), Collections.emptyList()));
+			// the caches of the old reference data are not used anymore
+			assertNull(VinDataFactory.decode(VALID_VIN).getVds());
+			assertNotSame(cache, VinDataFactory.getCache());
+			assertEquals(100, VinDataFactory.getCache().getMaximumSize());
+			assertEquals(1, VinDataFactory.getCache().size());
+			assertEquals(1, VinDataFactory.getPrefixCache().size());
+		} finally {
+			VinDataFactory.setReferenceData(data);
+			VinDataFactory.disableCache();
+			VinDataFactory.disablePrefixCache();
+		}
+	}
+
+	@Test
+	public void decodePrefixCached() {
+		VinDataFactory.enablePrefixCache(100);
+		try {
+			final Vin first = VinDataFactory.decode("W0L000051T2123456");
+			final Vin second = VinDataFactory.decode("W0L000051T2654321");
+			assertEquals("W0L000051T2654321", second.getCode());
+			assertSame(first.getManufacturer(), second.getManufacturer());
+			assertSame(first.getVds(), second.getVds());
+			assertEquals("Plant", second.getVis().getDescription());
+			assertEquals(1, VinDataFactory.getPrefixCache().getHitCount());
+			assertEquals(1, VinDataFactory.getPrefixCache().getMissCount());
+			assertEquals("W0L000051T2", VinPrefix.key("W0L000051T2123456"));
+			assertEquals("WF9000051T2ABC", VinPrefix.key("WF9000051T2ABC456"));
+		} finally {
+			VinDataFactory.disablePrefixCache();
+		}
+	}
 
 }
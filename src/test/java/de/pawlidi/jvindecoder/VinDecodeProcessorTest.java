@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import de.pawlidi.jvindecoder.db.ReferenceData;
+
+public class VinDecodeProcessorTest {
+
+	@BeforeAll
+	public static void setup() {
+		VinDataFactory.setReferenceData(new ReferenceData(WMIClassifierTest.REGIONS, WMIClassifierTest.COUNTRIES,
+				WMIManufacturerIndexTest.MANUFACTURERS, null, null));
+	}
+
+	@AfterAll
+	public static void tearDown() {
+		VinDataFactory.setReferenceData(null);
+	}
+
+	/**
+	 * Publisher of generated codes, which records the maximum number of
+	 * outstanding requested codes.
+	 */
+	private static final class CodePublisher implements Publisher<CharSequence> {
+
+		private final int count;
+		private final AtomicLong outstanding = new AtomicLong();
+		private final AtomicLong maxOutstanding = new AtomicLong();
+
+		CodePublisher(int count) {
+			this.count = count;
+		}
+
+		@Override
+		public void subscribe(Subscriber<? super CharSequence> subscriber) {
+			subscriber.onSubscribe(new Subscription() {
+				private int next;
+				private boolean emitting;
+
+				@Override
+				public synchronized void request(long n) {
+					maxOutstanding.accumulateAndGet(outstanding.addAndGet(n), Math::max);
+					if (emitting) {
+						return;
+					}
+					emitting = true;
+					while (outstanding.get() > 0 && next < count) {
+						outstanding.decrementAndGet();
+						final int i = next++;
+						subscriber.onNext(i % 10 == 0 ? "invalid" : String.format("W0L000051T2%06d", i));
+					}
+					emitting = false;
+					if (next == count) {
+						next++;
+						subscriber.onComplete();
+					}
+				}
+
+				@Override
+				public void cancel() {
+					next = count + 1;
+				}
+			});
+		}
+	}
+
+	/**
+	 * Subscriber, which requests one result at a time.
+	 */
+	private static final class SlowSubscriber implements Subscriber<VinDecodeResult> {
+
+		private final List<VinDecodeResult> results = new CopyOnWriteArrayList<VinDecodeResult>();
+		private final CountDownLatch completed = new CountDownLatch(1);
+		private Subscription subscription;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(1);
+		}
+
+		@Override
+		public void onNext(VinDecodeResult result) {
+			results.add(result);
+			subscription.request(1);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			completed.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed.countDown();
+		}
+	}
+
+	@Test
+	public void decodeTest() throws InterruptedException {
+		final CodePublisher publisher = new CodePublisher(2000);
+		final VinDecodeProcessor processor = new VinDecodeProcessor(4, 64, false);
+		final SlowSubscriber subscriber = new SlowSubscriber();
+		publisher.subscribe(processor);
+		processor.subscribe(subscriber);
+		assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+		assertEquals(2000, subscriber.results.size());
+		for (int i = 0; i < 2000; i++) {
+			final VinDecodeResult result = subscriber.results.get(i);
+			if (i % 10 == 0) {
+				assertEquals(VinValidation.INVALID_LENGTH, result.getValidation());
+				assertNull(result.getVin());
+			} else {
+				assertEquals(String.format("W0L000051T2%06d", i), result.getVin().getCode());
+				assertEquals("Opel", result.getVin().getManufacturer().getName());
+			}
+		}
+		assertTrue(publisher.maxOutstanding.get() <= 64, "outstanding " + publisher.maxOutstanding.get());
+	}
+}
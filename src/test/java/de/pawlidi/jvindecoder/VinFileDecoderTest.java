@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import de.pawlidi.jvindecoder.db.ReferenceData;
+
+public class VinFileDecoderTest {
+
+	@BeforeAll
+	public static void setup() {
+		VinDataFactory.setReferenceData(new ReferenceData(WMIClassifierTest.REGIONS, WMIClassifierTest.COUNTRIES,
+				WMIManufacturerIndexTest.MANUFACTURERS, null, null));
+	}
+
+	@AfterAll
+	public static void tearDown() {
+		VinDataFactory.setReferenceData(null);
+	}
+
+	@Test
+	public void decodeTest() throws IOException {
+		final Path file = Files.createTempFile("vins", ".txt");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+				for (int i = 0; i < 1000; i++) {
+					writer.write(String.format("W0L000051T2%06d\r\n", i));
+					if (i % 100 == 0) {
+						writer.write("\n  invalid  \n");
+					}
+				}
+				writer.write("1M8GDM9AXKP042788");
+			}
+			final Map<String, Boolean> valid = new ConcurrentHashMap<String, Boolean>();
+			final Map<String, VinValidation> invalid = new ConcurrentHashMap<String, VinValidation>();
+			final long lines = new VinFileDecoder(new ForkJoinPool(4), 1024, false).decode(file, record -> {
+				if (record.getValidation().isValid()) {
+					assertEquals(record.toString(), record.toVin().getCode());
+					valid.put(record.toString(), Boolean.TRUE);
+					if (record.charAt(0) == 'W') {
+						assertEquals("Germany", record.getCountry().getName());
+						assertEquals("Opel", record.getManufacturer().getName());
+					} else {
+						assertEquals("North America", record.getRegion().getName());
+						assertNull(record.getManufacturer());
+					}
+				} else {
+					invalid.put(record.toString() + record.getPosition(), record.getValidation());
+				}
+			});
+			assertEquals(1011, lines);
+			assertEquals(1001, valid.size());
+			assertEquals(10, invalid.size());
+			assertEquals(VinValidation.INVALID_LENGTH, invalid.values().iterator().next());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void emptyFileTest() throws IOException {
+		final Path file = Files.createTempFile("vins", ".txt");
+		try {
+			assertEquals(0, new VinFileDecoder().decode(file, record -> {
+			}));
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+public class WMIClassifierTest {
+
+	static final List<WMIRegion> REGIONS = Arrays.asList(new WMIRegion("Africa", "[A-H]"),
+			new WMIRegion("Asia", "[J-R]"), new WMIRegion("Europe", "[S-Z]"), new WMIRegion("North America", "[1-5]"),
+			new WMIRegion("Oceania", "[6-7]"), new WMIRegion("South America", "[890]"));
+
+	static final List<WMICountry> COUNTRIES = Arrays.asList(new WMICountry("United Kingdom", "[S]", "[A-M]"),
+			new WMICountry("Europe", "[S]", "[5-90]"), new WMICountry("Germany", "[W]", "[A-Z0-9]"),
+			new WMICountry("Italy", "[Z]", "[A-R]"), new WMICountry("Europe", "[Z]", "[6-90]"),
+			new WMICountry("United States", "[1]", "[A-Z0-9]"), new WMICountry("Spain", "[V]", "[S-W]"),
+			new WMICountry("France", "[V]", "[F-R]"), new WMICountry("Broken", "[V", "[A-E]"));
+
+	private final WMIClassifier classifier = WMIClassifier.compile(REGIONS, COUNTRIES);
+
+	@Test
+	public void decodeRegionTest() {
+		assertEquals("Europe", classifier.decodeRegion("W0L000051T2123456").getName());
+		assertEquals("North America", classifier.decodeRegion("1G1YY22G965104367").getName());
+		assertEquals("South America", classifier.region('0').getName());
+		assertEquals("Africa", classifier.region('A').getName());
+		assertNull(classifier.region('a'));
+		assertNull(classifier.decodeRegion(""));
+		assertNull(classifier.decodeRegion(null));
+	}
+
+	@Test
+	public void decodeCountryTest() {
+		assertEquals("Germany", classifier.decodeCountry("W0L000051T2123456").getName());
+		assertEquals("United States", classifier.decodeCountry("1G1YY22G965104367").getName());
+		assertEquals("Europe", classifier.country('S', '0').getName());
+		assertEquals("France", classifier.country('V', 'F').getName());
+		assertEquals("Spain", classifier.country('V', 'S').getName());
+		assertNull(classifier.country('V', 'A'));
+		assertNull(classifier.country('S', 'Z'));
+		assertNull(classifier.decodeCountry("W"));
+	}
+
+	@Test
+	public void firstMatchWinsTest() {
+		final WMIClassifier duplicates = WMIClassifier.compile(
+				Arrays.asList(new WMIRegion("First", "[A-C]"), new WMIRegion("Second", "[A-Z]")), null);
+		assertEquals("First", duplicates.region('B').getName());
+		assertEquals("Second", duplicates.region('D').getName());
+		assertNull(duplicates.country('A', 'A'));
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+
+public class WMIManufacturerIndexTest {
+
+	static final WMIManufacturer OPEL = new WMIManufacturer("Opel", null, "W0L");
+	static final WMIManufacturer SMALL = new WMIManufacturer("Small", null, "WF9ABC");
+	static final WMIManufacturer SMALL_DEFAULT = new WMIManufacturer("Small default", null, "WF9");
+
+	static final List<WMIManufacturer> MANUFACTURERS = Arrays.asList(OPEL, SMALL, SMALL_DEFAULT,
+			new WMIManufacturer("Duplicate", null, "W0L"), new WMIManufacturer("Invalid", null, "W0"),
+			new WMIManufacturer("Invalid", null, "w0l"), new WMIManufacturer("Invalid", null, null));
+
+	private final WMIManufacturerIndex index = WMIManufacturerIndex.build(MANUFACTURERS);
+
+	@Test
+	public void getTest() {
+		assertSame(OPEL, index.get("W0L"));
+		assertSame(SMALL, index.get("WF9ABC"));
+		assertSame(SMALL_DEFAULT, index.get("WF9"));
+		assertNull(index.get("WF9ABD"));
+		assertNull(index.get("WVW"));
+		assertNull(index.get("w0l"));
+		assertNull(index.get(null));
+	}
+
+	@Test
+	public void resolveTest() {
+		assertSame(OPEL, index.resolve("W0L000051T2123456"));
+		assertSame(SMALL, index.resolve("WF9000051T2ABC456"));
+		assertSame(SMALL_DEFAULT, index.resolve("WF9000051T2XYZ456"));
+		assertSame(SMALL_DEFAULT, index.resolve("WF9"));
+		assertNull(index.resolve("WVWZZZ1JZXW000001"));
+		assertNull(index.resolve("W0"));
+	}
+
+	@Test
+	public void emptyTest() {
+		final WMIManufacturerIndex empty = WMIManufacturerIndex.build(null);
+		assertNull(empty.get("W0L"));
+		assertNull(empty.resolve("WF9000051T2ABC456"));
+	}
+}
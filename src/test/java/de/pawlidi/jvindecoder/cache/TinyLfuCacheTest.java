@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TinyLfuCacheTest {
+
+	@Test
+	public void testGetAndPut() {
+		final TinyLfuCache<String, String> cache = new TinyLfuCache<String, String>(100);
+		assertNull(cache.get("W0L000051T2123456"));
+		cache.put("W0L000051T2123456", "opel");
+		assertEquals("opel", cache.get("W0L000051T2123456"));
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(0.5, cache.getHitRate());
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testMaximumSize() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<Integer, Integer>(256);
+		for (int i = 0; i < 10000; i++) {
+			cache.put(i, i);
+		}
+		assertTrue(cache.size() <= 256);
+		assertTrue(cache.getEvictionCount() >= 10000 - 256);
+	}
+
+	@Test
+	public void testSmallSize() {
+		for (int size = TinyLfuCache.MIN_SIZE; size < 40; size++) {
+			final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<Integer, Integer>(size);
+			for (int i = 0; i < 1000; i++) {
+				cache.put(i % 50, i);
+				cache.get(i % 7);
+			}
+			assertTrue(cache.size() <= size, "size " + cache.size() + " of " + size);
+		}
+		assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<Integer, Integer>(1));
+		assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<Integer, Integer>(0));
+	}
+
+	@Test
+	public void testFrequentKeysSurviveScan() {
+		final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<Integer, Integer>(1000);
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i);
+		}
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 100; i++) {
+				cache.get(i);
+			}
+		}
+		for (int i = 1000; i < 20000; i++) {
+			cache.put(i, i);
+		}
+		int retained = 0;
+		for (int i = 0; i < 100; i++) {
+			if (cache.get(i) != null) {
+				retained++;
+			}
+		}
+		assertTrue(retained >= 90, "retained " + retained);
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.table.TableUtils;
+
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+public class BulkLoaderTest {
+
+	private static JdbcConnectionSource connection;
+	private static BulkLoader loader;
+
+	@BeforeAll
+	public static void setup() throws SQLException {
+		connection = new JdbcConnectionSource("jdbc:h2:mem:bulkLoader;DB_CLOSE_DELAY=-1");
+		TableUtils.createTable(connection, WMIRegion.class);
+		TableUtils.createTable(connection, WMICountry.class);
+		TableUtils.createTable(connection, WMIManufacturer.class);
+		loader = new BulkLoader(connection);
+	}
+
+	@AfterAll
+	public static void tearDown() throws IOException {
+		connection.close();
+	}
+
+	@Test
+	public void delimitedReaderTest() throws IOException {
+		final DelimitedReader reader = new DelimitedReader(
+				new StringReader("# comment\r\na, b ,c\r\n\n\"x,\"\"y\"\"\",\"multi\nline\"\nlast"), ',');
+		assertArrayEquals(new String[] { "a", "b", "c" }, reader.next());
+		assertEquals(2, reader.getLine());
+		assertArrayEquals(new String[] { "x,\"y\"", "multi\nline" }, reader.next());
+		assertEquals(4, reader.getLine());
+		assertArrayEquals(new String[] { "last" }, reader.next());
+		assertEquals(6, reader.getLine());
+		assertNull(reader.next());
+		reader.close();
+		assertThrows(IOException.class, () -> new DelimitedReader(new StringReader("\"open"), ',').next());
+	}
+
+	@Test
+	public void importTest() throws SQLException, IOException {
+		assertEquals(2, loader.importRegions(new StringReader("Europe,[S-Z]\nAsia,[J-R]\n"), BulkLoader.CSV));
+		assertEquals(2, loader.importCountries(new StringReader("Germany\t[W]\t[A-Z0-9]\nItaly\t[Z]\t[A-R]"),
+				BulkLoader.TSV));
+		assertEquals(2, loader.importManufacturers(new StringReader("W0L,Opel,\"Opel, Vauxhall\"\nWVW,Volkswagen"),
+				BulkLoader.CSV));
+		assertEquals(2, DaoManager.createDao(connection, WMIManufacturer.class).countOf());
+
+		final IOException e = assertThrows(IOException.class,
+				() -> loader.importManufacturers(new StringReader("WBA,BMW\nTOOLONG,Invalid"), BulkLoader.CSV));
+		assertEquals("Invalid row in line 2", e.getMessage());
+		assertEquals(2, DaoManager.createDao(connection, WMIManufacturer.class).countOf());
+
+		assertEquals(2, loader.createAll(WMIRegion.class,
+				Arrays.asList(new WMIRegion("Africa", "[A-H]"), new WMIRegion("Oceania", "[6-7]"))));
+		assertEquals(4, DaoManager.createDao(connection, WMIRegion.class).countOf());
+	}
+
+	@Test
+	public void batchTest() throws SQLException {
+		final Dao<WMICountry, Integer> dao = DaoManager.createDao(connection, WMICountry.class);
+		final long before = dao.countOf();
+		final List<WMICountry> countries = new ArrayList<WMICountry>();
+		for (int i = 0; i < BulkLoader.BATCH_SIZE * 2 + 500; i++) {
+			countries.add(new WMICountry("Country " + i, "[A]", "[A-Z]"));
+		}
+		assertEquals(countries.size(), loader.createAll(WMICountry.class, countries));
+		assertEquals(before + countries.size(), dao.countOf());
+		final WMICountry last = countries.get(countries.size() - 1);
+		assertEquals(countries.get(0).getId() + countries.size() - 1, last.getId());
+		assertEquals(last.getName(), dao.queryForId(last.getId()).getName());
+
+		// a duplicate uuid after the first batch rolls back the whole insert
+		final List<WMICountry> invalid = new ArrayList<WMICountry>();
+		for (int i = 0; i < BulkLoader.BATCH_SIZE + 10; i++) {
+			invalid.add(new WMICountry("Invalid " + i, "[A]", "[A-Z]"));
+		}
+		invalid.get(invalid.size() - 1).setUuid(invalid.get(0).getUuid());
+		assertThrows(SQLException.class, () -> loader.createAll(WMICountry.class, invalid));
+		assertEquals(before + countries.size(), dao.countOf());
+		final WMICountry next = new WMICountry("Next", "[A]", "[A-Z]");
+		assertEquals(1, loader.createAll(WMICountry.class, Arrays.asList(next)));
+		assertEquals(last.getId() + 1, next.getId());
+	}
+}
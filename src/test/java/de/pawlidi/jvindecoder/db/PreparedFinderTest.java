@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.j256.ormlite.jdbc.JdbcPooledConnectionSource;
+import com.j256.ormlite.table.TableUtils;
+
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+public class PreparedFinderTest {
+
+	private static JdbcPooledConnectionSource connection;
+	private static WMIRegionManager regionManager;
+	private static WMICountryManager countryManager;
+	private static WMIManufacturerManager manufacturerManager;
+	private static WMIManufacturer opel;
+
+	@BeforeAll
+	public static void setup() throws SQLException {
+		connection = new JdbcPooledConnectionSource("jdbc:h2:mem:finder;DB_CLOSE_DELAY=-1");
+		regionManager = new WMIRegionManager(connection);
+		countryManager = new WMICountryManager(connection);
+		manufacturerManager = new WMIManufacturerManager(connection);
+		TableUtils.createTable(connection, VehicleDescriptorSection.class);
+		TableUtils.createTable(connection, VehicleIndicatorSection.class);
+
+		final BulkLoader loader = new BulkLoader(connection);
+		loader.createAll(WMIRegion.class,
+				Arrays.asList(new WMIRegion("Europe", "[S-Z]"), new WMIRegion("Asia", "[J-R]")));
+		loader.createAll(WMICountry.class, Arrays.asList(new WMICountry("Germany", "[W]", "[A-Z0-9]"),
+				new WMICountry("Europe", "[U-W]", "[8-90]"), new WMICountry("Japan", "[J]", "[A-Z0-9]")));
+		opel = new WMIManufacturer("Opel", null, "W0L");
+		loader.createAll(WMIManufacturer.class, Arrays.asList(opel, new WMIManufacturer("BMW", null, "WBA")));
+		final VehicleDescriptorSection vds = new VehicleDescriptorSection();
+		vds.setManufacturer(opel);
+		vds.setCode("00005");
+		loader.createAll(VehicleDescriptorSection.class, Arrays.asList(vds));
+	}
+
+	@AfterAll
+	public static void tearDown() throws IOException {
+		connection.close();
+	}
+
+	private static void assertFinders() {
+		assertEquals("Europe", regionManager.findByPrefixChar('W').getName());
+		assertEquals("Asia", regionManager.findByPrefixChar('J').getName());
+		assertNull(regionManager.findByPrefixChar('1'));
+		assertEquals(2, countryManager.findByPrefixChar('W').size());
+		assertEquals("Japan", countryManager.findByPrefixChar('J').get(0).getName());
+		assertTrue(countryManager.findByPrefixChar('a').isEmpty());
+		assertEquals("Opel", manufacturerManager.findByWmiCode("W0L").getName());
+		assertNull(manufacturerManager.findByWmiCode("XXX"));
+		assertEquals("00005", manufacturerManager.findVdsByManufacturer(opel).get(0).getCode());
+		assertTrue(manufacturerManager.findVisByManufacturer(opel).isEmpty());
+		assertTrue(manufacturerManager.findVdsByManufacturer(null).isEmpty());
+	}
+
+	@Test
+	public void findTest() throws Exception {
+		assertFinders();
+		// the rows reference the given manufacturer instead of a refreshed copy
+		assertSame(opel, manufacturerManager.findVdsByManufacturer(opel).get(0).getManufacturer());
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (int i = 0; i < 200; i++) {
+				final String wmiCode = i % 2 == 0 ? "W0L" : "WBA";
+				futures.add(executor.submit(() -> assertEquals(wmiCode,
+						manufacturerManager.findByWmiCode(wmiCode).getWmiCode())));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		final ReferenceData data = new ReferenceData(regionManager.getList(), countryManager.getList(),
+				manufacturerManager.getList(), manufacturerManager.findVdsByManufacturer(opel),
+				manufacturerManager.findVisByManufacturer(opel));
+		regionManager.setReferenceData(data);
+		countryManager.setReferenceData(data);
+		manufacturerManager.setReferenceData(data);
+		try {
+			assertFinders();
+		} finally {
+			regionManager.setReferenceData(null);
+			countryManager.setReferenceData(null);
+			manufacturerManager.setReferenceData(null);
+		}
+	}
+}
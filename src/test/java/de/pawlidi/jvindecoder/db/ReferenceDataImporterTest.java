@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.h2.api.Trigger;
+import org.junit.jupiter.api.Test;
+
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.table.TableUtils;
+
+import de.pawlidi.jvindecoder.model.BaseModel;
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+
+public class ReferenceDataImporterTest {
+
+	private static String source(int manufacturers, int sections) {
+		final StringBuilder builder = new StringBuilder("# type,wmi,code,description\n");
+		for (int i = 0; i < manufacturers; i++) {
+			builder.append("WMI,W").append(10 + i).append(",Manufacturer ").append(i).append('\n');
+		}
+		for (int i = 0; i < sections; i++) {
+			builder.append(i % 2 == 0 ? "VDS" : "VIS").append(",W").append(10 + i % manufacturers).append(',')
+					.append(i).append(",\"Section, ").append(i).append("\"\n");
+		}
+		return builder.append("VDS,XXX,1,Unknown manufacturer\n").append("FOO,W10,1,Unknown type\n").toString();
+	}
+
+	private static long count(String url, Class<?> type) throws SQLException, IOException {
+		try (JdbcConnectionSource connection = new JdbcConnectionSource(url)) {
+			return DaoManager.createDao(connection, type).countOf();
+		}
+	}
+
+	@Test
+	public void importTest() throws SQLException, IOException {
+		final String url = "jdbc:h2:mem:importer;DB_CLOSE_DELAY=-1";
+		final AtomicLong progress = new AtomicLong();
+		final AtomicLong rejected = new AtomicLong();
+		final ReferenceDataImporter importer = new ReferenceDataImporter(url);
+		importer.setBatchSize(100);
+		importer.setThreads(3);
+		importer.setListener((checkpoint, inserted, invalid) -> {
+			progress.set(inserted);
+			rejected.set(invalid);
+		});
+		assertEquals(5010, importer.importFrom(new StringReader(source(10, 5000))));
+		assertEquals(5010, progress.get());
+		assertEquals(2, rejected.get());
+		assertEquals(10, count(url, WMIManufacturer.class));
+		assertEquals(2500, count(url, VehicleDescriptorSection.class));
+		assertEquals(2500, count(url, VehicleIndicatorSection.class));
+	}
+
+	@Test
+	public void resumeTest() throws SQLException, IOException {
+		final String url = "jdbc:h2:mem:importerResume;DB_CLOSE_DELAY=-1";
+		final Path checkpoint = Files.createTempFile("jvindecoder", ".checkpoint");
+		Files.delete(checkpoint);
+		final ReferenceDataImporter importer = new ReferenceDataImporter(url);
+		importer.setBatchSize(50);
+		importer.setThreads(2);
+		importer.setCheckpoint(checkpoint);
+
+		final String source = source(5, 3000);
+		final IOException e = assertThrows(IOException.class,
+				() -> importer.importFrom(new StringReader(source + "VDS,W10,\"broken")));
+		assertTrue(e.getMessage().startsWith("Unclosed quote"));
+		assertTrue(Files.exists(checkpoint));
+		final String[] values = new String(Files.readAllBytes(checkpoint)).trim().split(" ");
+		final long line = Long.parseLong(values[0]);
+		assertTrue(line > 100);
+		assertEquals("5", values[1]);
+
+		// committed rows after the checkpoint are skipped, the last partial batch is new
+		Files.write(checkpoint, (line - 100 + " " + values[1]).getBytes());
+		assertEquals(5, importer.importFrom(new StringReader(source)));
+		assertFalse(Files.exists(checkpoint));
+		assertEquals(5, count(url, WMIManufacturer.class));
+		assertEquals(1500, count(url, VehicleDescriptorSection.class));
+		assertEquals(1500, count(url, VehicleIndicatorSection.class));
+	}
+
+	@Test
+	public void lateBatchTest() throws Exception {
+		// row locks let the other threads commit while one batch is stalled
+		final String url = "jdbc:h2:mem:importerLate;DB_CLOSE_DELAY=-1;MVCC=TRUE";
+		final Path checkpoint = Files.createTempFile("jvindecoder", ".checkpoint");
+		Files.delete(checkpoint);
+		final StringBuilder source = new StringBuilder();
+		for (int i = 0; i < 20; i++) {
+			source.append("WMI,W").append(10 + i).append(",Manufacturer ").append(i).append('\n');
+			for (int j = 0; j < 30; j++) {
+				source.append("VDS,W").append(10 + i).append(',').append(j).append(",W").append(10 + i).append('\n');
+			}
+		}
+		try (JdbcConnectionSource connection = new JdbcConnectionSource(url)) {
+			TableUtils.createTable(connection, WMIManufacturer.class);
+			TableUtils.createTable(connection, VehicleDescriptorSection.class);
+			TableUtils.createTable(connection, VehicleIndicatorSection.class);
+			execute(connection, "CREATE TRIGGER LATE BEFORE INSERT ON " + WMIManufacturer.NAME + " FOR EACH ROW CALL \""
+					+ LateTrigger.class.getName() + "\"");
+		}
+		final ReferenceDataImporter importer = new ReferenceDataImporter(url);
+		importer.setBatchSize(10);
+		importer.setThreads(3);
+		importer.setQueueCapacity(2);
+		importer.setCheckpoint(checkpoint);
+
+		// the batch of W15 fails late, while the other threads commit the following batches
+		assertThrows(SQLException.class, () -> importer.importFrom(new StringReader(source.toString())));
+		try (JdbcConnectionSource connection = new JdbcConnectionSource(url)) {
+			execute(connection, "DROP TRIGGER LATE");
+		}
+		importer.importFrom(new StringReader(source.toString()));
+		assertFalse(Files.exists(checkpoint));
+		assertEquals(20, count(url, WMIManufacturer.class));
+		assertEquals(600, count(url, VehicleDescriptorSection.class));
+		try (JdbcConnectionSource connection = new JdbcConnectionSource(url)) {
+			// every section references the manufacturer of its row
+			final DatabaseConnection database = connection.getReadOnlyConnection(null);
+			try {
+				assertEquals(600, database.queryForLong("SELECT COUNT(*) FROM " + VehicleDescriptorSection.NAME
+						+ " V JOIN " + WMIManufacturer.NAME + " M ON V." + VehicleDescriptorSection.MANUFACTURER
+						+ " = M." + BaseModel.ID + " WHERE V.DESCRIPTION = M." + WMIManufacturer.WMI_CODE));
+			} finally {
+				connection.releaseConnection(database);
+			}
+		}
+	}
+
+	private static void execute(JdbcConnectionSource connection, String sql) throws SQLException {
+		final DatabaseConnection database = connection.getReadWriteConnection(null);
+		try {
+			database.executeStatement(sql, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+		} finally {
+			connection.releaseConnection(database);
+		}
+	}
+
+	/**
+	 * Fails the insert of the manufacturer W15 after a delay.
+	 */
+	public static final class LateTrigger implements Trigger {
+
+		@Override
+		public void init(Connection connection, String schema, String trigger, String table, boolean before,
+				int type) {
+			// nothing to initialize
+		}
+
+		@Override
+		public void fire(Connection connection, Object[] oldRow, Object[] newRow) throws SQLException {
+			if (Arrays.asList(newRow).contains("W15")) {
+				try {
+					Thread.sleep(500);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				throw new SQLException("Late failure");
+			}
+		}
+
+		@Override
+		public void close() {
+			// nothing to close
+		}
+
+		@Override
+		public void remove() {
+			// nothing to remove
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.table.TableUtils;
+
+import de.pawlidi.jvindecoder.VinDataFactory;
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+public class ReferenceDataReloadTest {
+
+	private static String createDatabase(Path directory, String manufacturerName) throws SQLException, IOException {
+		final String path = directory.resolve("decoder").toString();
+		final JdbcConnectionSource connection = new JdbcConnectionSource("jdbc:h2:file:" + path + ";USER=decoder");
+		try {
+			TableUtils.createTable(connection, WMIRegion.class);
+			TableUtils.createTable(connection, WMICountry.class);
+			TableUtils.createTable(connection, WMIManufacturer.class);
+			TableUtils.createTable(connection, VehicleDescriptorSection.class);
+			TableUtils.createTable(connection, VehicleIndicatorSection.class);
+			SchemaMigration.migrate(connection);
+
+			final BulkLoader loader = new BulkLoader(connection);
+			loader.createAll(WMIRegion.class, Arrays.asList(new WMIRegion("Europe", "[S-Z]")));
+			loader.createAll(WMICountry.class, Arrays.asList(new WMICountry("Germany", "[W]", "[A-Z0-9]")));
+			final WMIManufacturer manufacturer = new WMIManufacturer(manufacturerName, null, "W0L");
+			loader.createAll(WMIManufacturer.class, Arrays.asList(manufacturer));
+			final VehicleDescriptorSection vds = new VehicleDescriptorSection();
+			vds.setManufacturer(manufacturer);
+			vds.setCode("00005");
+			loader.createAll(VehicleDescriptorSection.class, Arrays.asList(vds));
+		} finally {
+			connection.close();
+		}
+		return path;
+	}
+
+	@Test
+	public void reloadTest() throws Exception {
+		final Path first = Files.createTempDirectory("jvindecoder");
+		final Path second = Files.createTempDirectory("jvindecoder");
+		final DataBaseManager manager = DataBaseManager.instance();
+
+		assertTrue(manager.reloadReferenceData(createDatabase(first, "Opel")));
+		final ReferenceData data = manager.getReferenceData();
+		assertEquals("Opel", data.getManufacturerByWmiCode("W0L").getName());
+		assertEquals(1, data.getVdsList(data.getManufacturerByWmiCode("W0L")).size());
+		assertEquals("Europe", data.getClassifier().region('W').getName());
+
+		VinDataFactory.enableCache(10);
+		try {
+			VinDataFactory.getCache().put("W0L000051T2123456", VinDataFactory.decode("W0L000051T2123456"));
+			assertTrue(manager.reloadReferenceDataAsync(createDatabase(second, "Opel Automobile") + ".mv.db").get());
+			assertEquals(0, VinDataFactory.getCache().size());
+		} finally {
+			VinDataFactory.disableCache();
+		}
+		assertNotSame(data, manager.getReferenceData());
+		assertEquals("Opel Automobile", manager.getReferenceData().getManufacturerByWmiCode("W0L").getName());
+		// the old snapshot is left unchanged
+		assertEquals("Opel", data.getManufacturerByWmiCode("W0L").getName());
+
+		final ReferenceData current = manager.getReferenceData();
+		assertFalse(manager.reloadReferenceData(first.resolve("missing").toString()));
+		assertSame(current, manager.getReferenceData());
+	}
+
+	@Test
+	public void invalidReloadTest() throws Exception {
+		final DataBaseManager manager = DataBaseManager.instance();
+		assertTrue(manager.reloadReferenceData(createDatabase(Files.createTempDirectory("jvindecoder"), "Opel")));
+		final ReferenceData current = manager.getReferenceData();
+
+		// database without reference rows
+		final String empty = Files.createTempDirectory("jvindecoder").resolve("decoder").toString();
+		JdbcConnectionSource connection = new JdbcConnectionSource("jdbc:h2:file:" + empty + ";USER=decoder");
+		try {
+			SchemaMigration.migrate(connection);
+		} finally {
+			connection.close();
+		}
+		assertFalse(manager.reloadReferenceData(empty));
+		assertSame(current, manager.getReferenceData());
+
+		// database with a missing table is only read
+		final String broken = createDatabase(Files.createTempDirectory("jvindecoder"), "Opel");
+		connection = new JdbcConnectionSource("jdbc:h2:file:" + broken + ";USER=decoder");
+		try {
+			TableUtils.dropTable(connection, VehicleIndicatorSection.class, false);
+		} finally {
+			connection.close();
+		}
+		assertFalse(manager.reloadReferenceData(broken));
+		assertSame(current, manager.getReferenceData());
+		connection = new JdbcConnectionSource("jdbc:h2:file:" + broken + ";USER=decoder");
+		try {
+			final DatabaseConnection database = connection.getReadOnlyConnection(null);
+			try {
+				assertFalse(database.isTableExists(VehicleIndicatorSection.NAME));
+			} finally {
+				connection.releaseConnection(database);
+			}
+		} finally {
+			connection.close();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+public class ReferenceDataTest {
+
+	@Test
+	public void indexTest() {
+		final WMIRegion europe = new WMIRegion("Europe", "[S-Z]");
+		final WMICountry germany = new WMICountry("Germany", "[W]", "[A-Z0-9]");
+		final WMIManufacturer opel = new WMIManufacturer("Opel", null, "W0L");
+		final WMIManufacturer opelCopy = new WMIManufacturer("Opel", null, "W0L");
+		opelCopy.setUuid(opel.getUuid());
+		final VehicleDescriptorSection vds = new VehicleDescriptorSection();
+		vds.setManufacturer(opelCopy);
+		vds.setCode("00005");
+
+		final ReferenceData data = new ReferenceData(Arrays.asList(europe), Arrays.asList(germany),
+				Arrays.asList(opel), Arrays.asList(vds), null);
+
+		assertSame(europe, data.getRegion(europe.getUuid()));
+		assertSame(germany, data.getCountry(germany.getUuid()));
+		assertSame(opel, data.getManufacturerByWmiCode("W0L"));
+		// the row is copied to reference the manufacturer of the snapshot
+		assertEquals("00005", data.getVds(vds.getUuid()).getCode());
+		assertSame(opel, data.getVds(vds.getUuid()).getManufacturer());
+		assertSame(opelCopy, vds.getManufacturer());
+		assertEquals(1, data.getVdsList(opel).size());
+		assertTrue(data.getVisList(opel).isEmpty());
+		assertSame(germany, data.getClassifier().country('W', '0'));
+		assertNull(data.getManufacturerByWmiCode("WVW"));
+	}
+
+	@Test
+	public void emptyTest() {
+		final ReferenceData data = new ReferenceData(null, Collections.<WMICountry>emptyList(), null, null, null);
+		assertTrue(data.getRegions().isEmpty());
+		assertNull(data.getRegion(null));
+		assertNull(data.getClassifier().region('W'));
+		assertTrue(data.getVdsList(null).isEmpty());
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+import de.pawlidi.jvindecoder.model.WMIRegion;
+
+public class SchemaMigrationTest {
+
+	private static final String[] VERSION_1 = {
+			"CREATE TABLE WMI_REGION (NAME VARCHAR(255) NOT NULL, WMIREGEX VARCHAR(255) NOT NULL, UUID VARCHAR(255) NOT NULL PRIMARY KEY)",
+			"CREATE TABLE WMI_MANUFACTURER (NAME VARCHAR(255) NOT NULL, DESCRIPTION VARCHAR(255), WMICODE VARCHAR(255) NOT NULL, UUID VARCHAR(255) NOT NULL PRIMARY KEY)",
+			"CREATE TABLE VDS (MANUFACTURER_ID VARCHAR(255) NOT NULL, CODE VARCHAR(255), DESCRIPTION VARCHAR(255), UUID VARCHAR(255) NOT NULL PRIMARY KEY)",
+			"INSERT INTO WMI_REGION VALUES ('Europe', '[S-Z]', 'r1')",
+			"INSERT INTO WMI_MANUFACTURER VALUES ('BMW', NULL, 'WBA', 'm1')",
+			"INSERT INTO WMI_MANUFACTURER VALUES ('Opel', NULL, 'W0L', 'm2')",
+			"INSERT INTO VDS VALUES ('m2', '00005', 'Long', 'v1')",
+			"INSERT INTO VDS VALUES ('unknown', '1', 'Orphan', 'v2')" };
+
+	@Test
+	public void migrateTest() throws SQLException, IOException {
+		final JdbcConnectionSource connection = new JdbcConnectionSource("jdbc:h2:mem:migration");
+		try {
+			final DatabaseConnection database = connection.getReadWriteConnection(null);
+			for (String statement : VERSION_1) {
+				database.executeStatement(statement, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+			}
+			assertEquals(1, SchemaMigration.getVersion(connection));
+			assertTrue(SchemaMigration.migrate(connection));
+			assertEquals(SchemaMigration.VERSION, SchemaMigration.getVersion(connection));
+			assertFalse(SchemaMigration.migrate(connection));
+
+			final WMIManufacturerManager manager = new WMIManufacturerManager(connection);
+			final WMIManufacturer opel = manager.findByWmiCode("W0L");
+			assertEquals(2, opel.getId());
+			assertEquals("m2", opel.getUuid());
+			assertEquals("BMW", manager.findById("m1").getName());
+			final List<VehicleDescriptorSection> vdsList = manager.findVdsByManufacturer(opel);
+			assertEquals(1, vdsList.size());
+			assertEquals("Long", vdsList.get(0).getDescription());
+			assertEquals(1, database.queryForLong("SELECT COUNT(*) FROM VDS"));
+			assertEquals("Europe", new WMIRegionManager(connection).findByPrefixChar('W').getName());
+
+			assertEquals(3, database.queryForLong(
+					"SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'WMI_MANUFACTURER' AND NON_UNIQUE = FALSE"));
+			assertEquals(1, database.queryForLong(
+					"SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'VDS' AND COLUMN_NAME = 'MANUFACTURER_ID'"));
+			final WMIManufacturer audi = new WMIManufacturer("Audi", null, "WAU");
+			DaoManager.createDao(connection, WMIManufacturer.class).create(audi);
+			assertEquals(3, audi.getId());
+			assertNotNull(manager.findByWmiCode("WAU"));
+			connection.releaseConnection(database);
+		} finally {
+			connection.close();
+		}
+	}
+
+	@Test
+	public void emptyDatabaseTest() throws SQLException, IOException {
+		final JdbcConnectionSource connection = new JdbcConnectionSource("jdbc:h2:mem:empty");
+		try {
+			assertEquals(0, SchemaMigration.getVersion(connection));
+			assertTrue(SchemaMigration.migrate(connection));
+			assertEquals(SchemaMigration.VERSION, SchemaMigration.getVersion(connection));
+			final DatabaseConnection database = connection.getReadOnlyConnection(null);
+			try {
+				assertTrue(database.isTableExists(WMIRegion.TABLE_NAME));
+				assertTrue(database.isTableExists(WMICountry.TABLE_NAME));
+				assertTrue(database.isTableExists(WMIManufacturer.NAME));
+				assertTrue(database.isTableExists(VehicleDescriptorSection.NAME));
+				assertTrue(database.isTableExists(VehicleIndicatorSection.NAME));
+			} finally {
+				connection.releaseConnection(database);
+			}
+		} finally {
+			connection.close();
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.table.TableUtils;
+
+import de.pawlidi.jvindecoder.model.VehicleDescriptorSection;
+import de.pawlidi.jvindecoder.model.VehicleIndicatorSection;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+
+public class WMIManufacturerManagerTest {
+
+	private static JdbcConnectionSource connection;
+	private static WMIManufacturerManager manager;
+
+	@BeforeAll
+	public static void setup() throws SQLException {
+		connection = new JdbcConnectionSource("jdbc:h2:mem:sections;DB_CLOSE_DELAY=-1");
+		manager = new WMIManufacturerManager(connection);
+		TableUtils.createTable(connection, VehicleDescriptorSection.class);
+		TableUtils.createTable(connection, VehicleIndicatorSection.class);
+
+		final WMIManufacturer opel = new WMIManufacturer("Opel", null, "W0L");
+		final WMIManufacturer bmw = new WMIManufacturer("BMW", null, "WBA");
+		final BulkLoader loader = new BulkLoader(connection);
+		loader.createAll(WMIManufacturer.class, Arrays.asList(opel, bmw, new WMIManufacturer("Audi", null, "WAU")));
+		loader.createAll(VehicleDescriptorSection.class,
+				Arrays.asList(vds(opel, "0000"), vds(opel, "00005"), vds(bmw, "1")));
+		loader.createAll(VehicleIndicatorSection.class, Arrays.asList(vis(opel, "T")));
+	}
+
+	@AfterAll
+	public static void tearDown() throws IOException {
+		connection.close();
+	}
+
+	private static VehicleDescriptorSection vds(WMIManufacturer manufacturer, String code) {
+		final VehicleDescriptorSection vds = new VehicleDescriptorSection();
+		vds.setManufacturer(manufacturer);
+		vds.setCode(code);
+		return vds;
+	}
+
+	private static VehicleIndicatorSection vis(WMIManufacturer manufacturer, String code) {
+		final VehicleIndicatorSection vis = new VehicleIndicatorSection();
+		vis.setManufacturer(manufacturer);
+		vis.setCode(code);
+		return vis;
+	}
+
+	private static void assertSections() {
+		final Map<String, ManufacturerSections> sections = manager
+				.findSections(Arrays.asList("W0L", "WBA", "WAU", "XXX", "W0L"));
+		assertEquals(3, sections.size());
+		final ManufacturerSections opel = sections.get("W0L");
+		assertEquals("Opel", opel.getManufacturer().getName());
+		assertEquals(2, opel.getVdsList().size());
+		assertSame(opel.getManufacturer(), opel.getVdsList().get(0).getManufacturer());
+		assertEquals("T", opel.getVisList().get(0).getCode());
+		assertEquals("1", sections.get("WBA").getVdsList().get(0).getCode());
+		assertTrue(sections.get("WBA").getVisList().isEmpty());
+		assertTrue(sections.get("WAU").getVdsList().isEmpty());
+		assertTrue(manager.findSections(null).isEmpty());
+	}
+
+	@Test
+	public void findSectionsTest() throws SQLException {
+		assertSections();
+
+		final List<WMIManufacturer> manufacturers = manager.getList();
+		final List<VehicleDescriptorSection> vdsList = manager.getVdsList(manufacturers);
+		assertEquals(3, vdsList.size());
+		assertTrue(manufacturers.contains(vdsList.get(0).getManufacturer()));
+		assertEquals("Opel", manager.getVisList(manufacturers).get(0).getManufacturer().getName());
+		assertTrue(manager.getVdsList(manufacturers.subList(0, 1)).size() < 3);
+
+		manager.setReferenceData(
+				new ReferenceData(null, null, manufacturers, vdsList, manager.getVisList(manufacturers)));
+		try {
+			assertSections();
+		} finally {
+			manager.setReferenceData(null);
+		}
+	}
+}
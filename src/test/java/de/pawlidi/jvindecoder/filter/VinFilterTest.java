@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+public class VinFilterTest {
+
+	private static String vin(int serial) {
+		return String.format("W0L00005%09d", serial);
+	}
+
+	@Test
+	public void testPut() {
+		final VinFilter filter = new VinFilter(100, 0.01);
+		assertTrue(filter.put(" W0L000051T2123456 "));
+		assertFalse(filter.put("W0L000051T2123456"));
+		assertTrue(filter.mightContain("W0L000051T2123456"));
+		assertFalse(filter.put("invalid"));
+		assertFalse(filter.mightContain((String) null));
+	}
+
+	@Test
+	public void testPutAcrossStages() {
+		final VinFilter filter = new VinFilter(100, 0.01);
+		for (int i = 0; i < 1000; i++) {
+			filter.put(vin(i));
+			for (int j = Math.max(0, i - 150); j <= i; j++) {
+				assertFalse(filter.put(vin(j)), "re-put " + j + " after " + i);
+			}
+		}
+	}
+
+	@Test
+	public void testFalsePositiveRate() {
+		final VinFilter filter = new VinFilter(1000, 0.01);
+		for (int i = 0; i < 50000; i++) {
+			filter.put(vin(i));
+		}
+		for (int i = 0; i < 50000; i++) {
+			assertTrue(filter.mightContain(vin(i)));
+		}
+		int falsePositives = 0;
+		for (int i = 50000; i < 150000; i++) {
+			if (filter.mightContain(vin(i))) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 1500, "false positives " + falsePositives);
+	}
+
+	@Test
+	public void testSerialization() throws IOException {
+		final VinFilter filter = new VinFilter(1000, 0.001);
+		for (int i = 0; i < 5000; i++) {
+			filter.put(vin(i));
+		}
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter.writeTo(out);
+		final VinFilter copy = VinFilter.readFrom(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(filter.size(), copy.size());
+		assertEquals(filter.bitCount(), copy.bitCount());
+		for (int i = 0; i < 5000; i++) {
+			assertTrue(copy.mightContain(vin(i)));
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.pawlidi.jvindecoder.metrics.DecodeStage;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class DecoderEventsTest {
+
+	@Test
+	public void notRecordingTest() {
+		assertFalse(DecoderEvents.isRecording());
+		assertNull(DecoderEvents.beginDecode());
+		assertNull(DecoderEvents.beginStage());
+		assertNull(DecoderEvents.beginQuery());
+		DecoderEvents.commitDecode(null, "W0L000051T2123456", false);
+	}
+
+	@Test
+	public void recordingTest() throws Exception {
+		final Path file = Files.createTempFile("jvindecoder", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(DecodeEvent.class).withoutThreshold();
+			recording.enable(DecodeStageEvent.class).withoutThreshold();
+			recording.enable(DaoQueryEvent.class).withoutThreshold();
+			recording.start();
+			assertTrue(DecoderEvents.isRecording());
+
+			final Object decode = DecoderEvents.beginDecode();
+			assertNotNull(decode);
+			final Object stage = DecoderEvents.beginStage();
+			DecoderEvents.commitStage(stage, DecodeStage.VDS, "W0L000051T2123456", true);
+			final Object query = DecoderEvents.beginQuery();
+			DecoderEvents.commitQuery(query, "WMI_COUNTRY", "queryForAll", false);
+			DecoderEvents.commitDecode(decode, "W0L000051T2123456", false);
+
+			recording.stop();
+			recording.dump(file);
+		}
+		assertFalse(DecoderEvents.isRecording());
+
+		final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		Files.delete(file);
+		assertEquals(3, events.size());
+		for (RecordedEvent event : events) {
+			final String name = event.getEventType().getName();
+			if (name.endsWith(".Decode")) {
+				assertEquals("W0L", event.getString("wmi"));
+				assertFalse(event.getBoolean("cached"));
+			} else if (name.endsWith(".DecodeStage")) {
+				assertEquals("VDS", event.getString("stage"));
+				assertTrue(event.getBoolean("cached"));
+			} else {
+				assertEquals("de.pawlidi.jvindecoder.DaoQuery", name);
+				assertEquals("WMI_COUNTRY", event.getString("table"));
+				assertEquals("queryForAll", event.getString("operation"));
+			}
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DecoderMetricsTest {
+
+	@AfterEach
+	public void tearDown() {
+		DecoderMetrics.instance().setEnabled(false);
+		DecoderMetrics.instance().reset();
+	}
+
+	@Test
+	public void histogramTest() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		final StageSnapshot snapshot = histogram.snapshot(DecodeStage.DECODE);
+		assertEquals(1000, snapshot.getCount());
+		assertEquals(1000000, snapshot.getMaxNanos());
+		assertEquals(500500, snapshot.getMeanNanos());
+		assertTrue(snapshot.getP50Nanos() >= 500000 && snapshot.getP50Nanos() < 500000 * 1.125);
+		assertTrue(snapshot.getP99Nanos() >= 990000 && snapshot.getP99Nanos() < 990000 * 1.125);
+		assertTrue(snapshot.getP999Nanos() >= 999000);
+	}
+
+	@Test
+	public void bucketTest() {
+		for (long value : new long[] { 0, 1, 7, 8, 9, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE }) {
+			final int bucket = LatencyHistogram.bucket(value);
+			assertTrue(LatencyHistogram.upperBound(bucket) >= value);
+			assertTrue(bucket == 0 || LatencyHistogram.upperBound(bucket - 1) < value);
+		}
+	}
+
+	@Test
+	public void recordTest() throws Exception {
+		assertEquals(0, DecoderMetrics.start());
+		assertEquals(0, DecoderMetrics.record(DecodeStage.REGION, 0));
+		DecoderMetrics.count(true);
+		assertEquals(0, DecoderMetrics.instance().getDecodeCount());
+
+		DecoderMetrics.instance().setEnabled(true);
+		final long start = DecoderMetrics.start();
+		assertTrue(DecoderMetrics.record(DecodeStage.REGION, start) >= start);
+		DecoderMetrics.count(true);
+		DecoderMetrics.count(false);
+		assertEquals(1, DecoderMetrics.instance().snapshot(DecodeStage.REGION).getCount());
+		assertEquals(1, DecoderMetrics.instance().getDecodeCount());
+		assertEquals(1, DecoderMetrics.instance().getInvalidCount());
+		assertEquals(DecodeStage.values().length, DecoderMetrics.instance().getStages().size());
+
+		assertTrue(DecoderMetrics.registerMBean());
+		final ObjectName name = new ObjectName(DecoderMetrics.OBJECT_NAME);
+		assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "DecodeCount"));
+		final Object[] stages = (Object[]) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Stages");
+		assertEquals(DecodeStage.values().length, stages.length);
+		DecoderMetrics.unregisterMBean();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2017 Maximilian Pawlidi
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.pawlidi.jvindecoder.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import de.pawlidi.jvindecoder.PackedVin;
+import de.pawlidi.jvindecoder.Vin;
+import de.pawlidi.jvindecoder.model.WMICountry;
+import de.pawlidi.jvindecoder.model.WMIManufacturer;
+
+public class OffHeapVinStoreTest {
+
+	private static final WMICountry GERMANY = new WMICountry("Germany", "[W]", "[A-Z0-9]");
+	private static final WMIManufacturer OPEL = new WMIManufacturer("Opel", null, "W0L");
+
+	private static Vin vin(int serial) {
+		final Vin vin = new Vin(String.format("W0L000051T2%06d", serial));
+		vin.setCountry(GERMANY);
+		vin.setManufacturer(OPEL);
+		return vin;
+	}
+
+	private static void fill(OffHeapVinStore store, int count) throws IOException {
+		for (int i = 0; i < count; i++) {
+			assertEquals(i, store.append(vin(i)));
+		}
+	}
+
+	@Test
+	public void testAppendAndFind() throws IOException {
+		try (OffHeapVinStore store = new OffHeapVinStore(100)) {
+			fill(store, 5000);
+			assertEquals(5000, store.size());
+			assertEquals(4711, store.find("W0L000051T2004711"));
+			assertEquals(42, store.find(PackedVin.of("W0L000051T2000042")));
+			assertEquals(-1, store.find("W0L000051T2999999"));
+			assertEquals(-1, store.find("invalid"));
+			assertEquals(-1, store.append(new Vin("invalid")));
+			assertEquals(5000, store.append(vin(7)));
+			assertEquals(7, store.find("W0L000051T2000007"));
+
+			final VinStoreCursor cursor = store.cursor();
+			assertTrue(store.read(4711, cursor));
+			assertEquals("W0L000051T2004711", cursor.getPackedVin().toString());
+			assertEquals(GERMANY.getUuid(), cursor.getCountryUuid());
+			assertEquals(OPEL.getUuid(), cursor.getManufacturerUuid());
+			assertNull(cursor.getRegionUuid());
+			assertEquals('T', cursor.getModelYear());
+			assertEquals('2', cursor.getPlant());
+			assertFalse(store.read(5001, cursor));
+		}
+	}
+
+	@Test
+	public void testScan() throws IOException {
+		final Path directory = Files.createTempDirectory("store");
+		try (OffHeapVinStore store = new OffHeapVinStore(directory, 64)) {
+			fill(store, 1000);
+			final AtomicLong next = new AtomicLong();
+			store.scan(cursor -> {
+				assertEquals(next.getAndIncrement(), cursor.getRow());
+				assertEquals(String.format("W0L000051T2%06d", cursor.getRow()), cursor.getPackedVin().toString());
+			});
+			assertEquals(1000, next.get());
+			assertTrue(Files.exists(directory.resolve("chunk-00015.col")));
+		} finally {
+			Files.list(directory).forEach(file -> file.toFile().delete());
+			Files.delete(directory);
+		}
+	}
+}